@@ -0,0 +1,84 @@
+package br.edu.utfpr.bankapi.reactive.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.edu.utfpr.bankapi.dto.AccountDTO;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.reactive.model.Account;
+import br.edu.utfpr.bankapi.reactive.service.AccountService;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mesmo contrato de /account do módulo MVC
+ */
+@RestController
+@RequestMapping("/account")
+public class AccountController {
+
+    @Autowired
+    private AccountService accountService;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> create(@RequestBody @Valid AccountDTO dto) {
+        return accountService.save(dto)
+                .map(res -> ResponseEntity.status(HttpStatus.CREATED).<Object>body(res))
+                .onErrorResume(ex -> Mono.just(ResponseEntity.badRequest().body(ex.getMessage())));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Object>> update(@PathVariable("id") long id, @RequestBody @Valid AccountDTO dto) {
+        return accountService.update(id, dto)
+                .map(res -> ResponseEntity.<Object>ok(res))
+                .onErrorResume(NotFoundException.class,
+                        ex -> Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage())))
+                .onErrorResume(ex -> Mono.just(ResponseEntity.badRequest().body(ex.getMessage())));
+    }
+
+    /**
+     * Todas as contas, escritas na resposta à medida que são lidas do banco,
+     * como array JSON ou NDJSON (uma conta por linha)
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Account> getAll() {
+        return accountService.getAll();
+    }
+
+    @GetMapping("/{number}")
+    public Mono<ResponseEntity<Account>> getByNumber(@PathVariable("number") long number) {
+        return accountService.getByNumber(number)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Saldo atual da conta ({@code at} requer o ledger, que não existe neste
+     * módulo)
+     */
+    @GetMapping("/{number}/balance")
+    public Mono<ResponseEntity<Object>> getBalance(@PathVariable("number") long number,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime at) {
+        return accountService.getBalance(number, at)
+                .map(res -> ResponseEntity.<Object>ok(res))
+                .onErrorResume(NotFoundException.class,
+                        ex -> Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage())))
+                .onErrorResume(IllegalArgumentException.class,
+                        ex -> Mono.just(ResponseEntity.badRequest().body(ex.getMessage())));
+    }
+}
@@ -0,0 +1,48 @@
+package br.edu.utfpr.bankapi.reactive.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.reactive.model.Transaction;
+import br.edu.utfpr.bankapi.reactive.service.TransactionService;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mesmo contrato de /transaction (transfer, deposit e withdraw) do módulo MVC
+ */
+@RestController
+@RequestMapping("/transaction")
+public class TransactionController {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @PostMapping("/transfer")
+    public Mono<ResponseEntity<Object>> transfer(@RequestBody TransferDTO dto) {
+        return created(transactionService.transfer(dto));
+    }
+
+    @PostMapping("/deposit")
+    public Mono<ResponseEntity<Object>> deposit(@RequestBody DepositDTO dto) {
+        return created(transactionService.deposit(dto));
+    }
+
+    @PostMapping("/withdraw")
+    public Mono<ResponseEntity<Object>> withdraw(@RequestBody WithdrawDTO dto) {
+        return created(transactionService.withdraw(dto));
+    }
+
+    private static Mono<ResponseEntity<Object>> created(Mono<Transaction> transaction) {
+        return transaction
+                .map(res -> ResponseEntity.status(HttpStatus.CREATED).<Object>body(res))
+                .onErrorResume(ex -> Mono.just(ResponseEntity.badRequest().body(ex.getMessage())));
+    }
+}
@@ -0,0 +1,54 @@
+package br.edu.utfpr.bankapi.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import br.edu.utfpr.bankapi.dto.AccountDTO;
+import br.edu.utfpr.bankapi.dto.MoneySerializer;
+import br.edu.utfpr.bankapi.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Conta (tb_account), com o mesmo JSON da entidade do módulo MVC. O saldo
+ * lido pelo AccountRepository já inclui os sub-saldos das contas quentes, e só
+ * é alterado por UPDATEs condicionais.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("tb_account")
+public class Account {
+    @Id
+    private long id;
+
+    private String name;
+
+    private long number;
+
+    // Valores em centavos (ver Money)
+    @JsonSerialize(using = MoneySerializer.class)
+    private long balance;
+
+    @JsonSerialize(using = MoneySerializer.class)
+    private long specialLimit;
+
+    private long version;
+
+    private int balanceSlots;
+
+    @JsonSerialize(using = MoneySerializer.class)
+    public long getBalanceWithLimit() {
+        return Money.add(balance, specialLimit);
+    }
+
+    public Account(long id, AccountDTO dto) {
+        this.id = id;
+        name = dto.name();
+        number = dto.number();
+        specialLimit = dto.specialLimit();
+    }
+}
@@ -0,0 +1,52 @@
+package br.edu.utfpr.bankapi.reactive.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import br.edu.utfpr.bankapi.dto.MoneySerializer;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Transação (tb_transaction). As contas são preenchidas após a gravação, para
+ * que a resposta tenha o mesmo JSON do módulo MVC.
+ */
+@Data
+@NoArgsConstructor
+@Table("tb_transaction")
+public class Transaction {
+    @Id
+    private long id;
+
+    @JsonIgnore
+    private Long sourceAccountId;
+
+    @JsonIgnore
+    private Long receiverAccountId;
+
+    @Transient
+    private Account sourceAccount;
+
+    @Transient
+    private Account receiverAccount;
+
+    // Valor em centavos (ver Money)
+    @JsonSerialize(using = MoneySerializer.class)
+    private long amount;
+
+    private TransactionType type;
+
+    private LocalDateTime dateTime = LocalDateTime.now();
+
+    public Transaction(long amount, TransactionType type) {
+        this.amount = amount;
+        this.type = type;
+    }
+}
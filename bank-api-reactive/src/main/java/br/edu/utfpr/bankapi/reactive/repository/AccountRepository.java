@@ -0,0 +1,58 @@
+package br.edu.utfpr.bankapi.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import br.edu.utfpr.bankapi.reactive.model.Account;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface AccountRepository extends ReactiveCrudRepository<Account, Long> {
+
+    // Saldo da conta: a coluna balance mais os sub-saldos (contas quentes)
+    String SELECT = """
+            select a.id, a.name, a.number, a.special_limit, a.version, a.balance_slots,
+                a.balance + coalesce((select sum(s.balance) from tb_account_slot s where s.account_id = a.id), 0) as balance
+            from tb_account a""";
+
+    @Query(SELECT + " where a.number = :number")
+    public Mono<Account> findByNumber(long number);
+
+    @Query(SELECT + " where a.id = :id")
+    public Mono<Account> findAccount(long id);
+
+    @Query(SELECT + " order by a.id")
+    public Flux<Account> findAllAccounts();
+
+    public Mono<Boolean> existsByNumber(long number);
+
+    /**
+     * Débito condicional em um único UPDATE: só altera a conta se o saldo
+     * (incluindo os sub-saldos) mais o limite cobrir o valor
+     * 
+     * @return 1 se debitou; 0 se a conta não existe ou não tem saldo
+     */
+    @Modifying
+    @Query("""
+            update tb_account set balance = balance - :amount, version = version + 1
+            where number = :number and balance + special_limit
+                + coalesce((select sum(s.balance) from tb_account_slot s where s.account_id = tb_account.id), 0) >= :amount""")
+    public Mono<Integer> debit(long number, long amount);
+
+    /**
+     * Crédito atômico (balance = balance + valor)
+     * 
+     * @return 1 se creditou; 0 se a conta não existe
+     */
+    @Modifying
+    @Query("update tb_account set balance = balance + :amount, version = version + 1 where number = :number")
+    public Mono<Integer> credit(long number, long amount);
+
+    @Modifying
+    @Query("""
+            update tb_account set name = :name, number = :number, special_limit = :specialLimit,
+                version = version + 1
+            where id = :id""")
+    public Mono<Integer> update(long id, String name, long number, long specialLimit);
+}
@@ -0,0 +1,72 @@
+package br.edu.utfpr.bankapi.reactive.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Ids lidos das mesmas sequências do módulo MVC (tb_account_seq,
+ * tb_transaction_seq), com a mesma estratégia pooled-lo: cada valor lido da
+ * sequência reserva o bloco [valor, valor + allocation-size), de modo que só um
+ * a cada allocation-size ids vai ao banco. Os dois módulos podem gravar no
+ * mesmo banco sem repetir ids.
+ */
+@Component
+public class SequenceIds {
+
+    private static class Block {
+        private long next;
+        private long limit;
+
+        synchronized long take() {
+            return next < limit ? next++ : -1;
+        }
+
+        synchronized long refill(long first, int size) {
+            next = first + 1;
+            limit = first + size;
+            return first;
+        }
+    }
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    // Deve ser igual ao incremento das sequências (ver db/migration do módulo MVC)
+    @Value("${bankapi.id.allocation-size:50}")
+    private int allocationSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public Mono<Long> next(String sequence) {
+        var block = blocks.computeIfAbsent(sequence, name -> new Block());
+
+        long id = block.take();
+        if (id >= 0)
+            return Mono.just(id);
+
+        // Bloco esgotado: lê o próximo valor da sequência. Leituras concorrentes
+        // descartam o restante do bloco anterior, sem repetir ids
+        return databaseClient.sql(nextValue(sequence))
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(first -> block.refill(first, allocationSize));
+    }
+
+    private String nextValue(String sequence) {
+        var database = connectionFactory.getMetadata().getName();
+        return database.startsWith("PostgreSQL")
+                ? "select nextval('" + sequence + "')"
+                : "select next value for " + sequence;
+    }
+}
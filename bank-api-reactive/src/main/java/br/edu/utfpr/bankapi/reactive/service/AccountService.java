@@ -0,0 +1,61 @@
+package br.edu.utfpr.bankapi.reactive.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+
+import br.edu.utfpr.bankapi.dto.AccountDTO;
+import br.edu.utfpr.bankapi.dto.BalanceDTO;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.reactive.model.Account;
+import br.edu.utfpr.bankapi.reactive.repository.AccountRepository;
+import br.edu.utfpr.bankapi.reactive.repository.SequenceIds;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class AccountService {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private SequenceIds sequenceIds;
+
+    public Mono<Account> getByNumber(long number) {
+        return accountRepository.findByNumber(number);
+    }
+
+    public Flux<Account> getAll() {
+        return accountRepository.findAllAccounts();
+    }
+
+    public Mono<BalanceDTO> getBalance(long number, LocalDateTime at) {
+        if (at != null)
+            return Mono.error(new IllegalArgumentException("Saldo em data anterior não disponível no módulo reativo"));
+
+        return accountRepository.findByNumber(number)
+                .switchIfEmpty(Mono.error(NotFoundException::new))
+                .map(account -> new BalanceDTO(number, account.getBalance(), LocalDateTime.now()));
+    }
+
+    /**
+     * Cria a conta com saldo 0
+     */
+    public Mono<Account> save(AccountDTO dto) {
+        return sequenceIds.next("tb_account_seq")
+                .flatMap(id -> template.insert(new Account(id, dto)));
+    }
+
+    public Mono<Account> update(long id, AccountDTO dto) {
+        return accountRepository.update(id, dto.name(), dto.number(), dto.specialLimit())
+                .filter(updated -> updated > 0)
+                .switchIfEmpty(Mono.error(NotFoundException::new))
+                .then(accountRepository.findAccount(id));
+    }
+}
@@ -0,0 +1,116 @@
+package br.edu.utfpr.bankapi.reactive.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.reactive.model.Account;
+import br.edu.utfpr.bankapi.reactive.model.Transaction;
+import br.edu.utfpr.bankapi.reactive.repository.AccountRepository;
+import br.edu.utfpr.bankapi.reactive.repository.SequenceIds;
+import reactor.core.publisher.Mono;
+
+/**
+ * Saque, depósito e transferência sem bloquear threads: o saldo é validado e
+ * alterado pelo próprio UPDATE condicional (como em
+ * bankapi.transaction.conditional-update do módulo MVC), que bloqueia a linha
+ * da conta até o fim da transação. Não há bloqueio em memória, pois as
+ * requisições não ficam presas a uma thread.
+ *
+ * Qualquer erro desfaz a transação, inclusive NotFoundException.
+ */
+@Service
+public class TransactionService {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private SequenceIds sequenceIds;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    public Mono<Transaction> transfer(TransferDTO dto) {
+        long source = dto.sourceAccountNumber();
+        long receiver = dto.receiverAccountNumber();
+
+        // Altera as contas em ordem crescente de número, evitando deadlock entre
+        // transferências opostas
+        var updates = source <= receiver
+                ? debit(source, dto.amount()).then(credit(receiver, dto.amount()))
+                : credit(receiver, dto.amount()).then(debit(source, dto.amount()));
+
+        return updates
+                .then(Mono.zip(find(source), find(receiver)))
+                .flatMap(accounts -> save(new Transaction(dto.amount(), TransactionType.TRANSFER),
+                        accounts.getT1(), accounts.getT2()))
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Transaction> deposit(DepositDTO dto) {
+        return credit(dto.receiverAccountNumber(), dto.amount())
+                .then(find(dto.receiverAccountNumber()))
+                .flatMap(receiver -> save(new Transaction(dto.amount(), TransactionType.DEPOSIT), null, receiver))
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Transaction> withdraw(WithdrawDTO dto) {
+        return debit(dto.sourceAccountNumber(), dto.amount())
+                .then(find(dto.sourceAccountNumber()))
+                .flatMap(source -> save(new Transaction(dto.amount(), TransactionType.WITHDRAW), source, null))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Void> debit(long number, long amount) {
+        return accountRepository.debit(number, amount)
+                .flatMap(updated -> {
+                    if (updated > 0)
+                        return Mono.<Void>empty();
+
+                    // Só a falha distingue conta inexistente de saldo insuficiente
+                    return accountRepository.existsByNumber(number)
+                            .flatMap(exists -> Mono.error(exists ? new WithoutBalanceException() : notFound(number)));
+                });
+    }
+
+    private Mono<Void> credit(long number, long amount) {
+        return accountRepository.credit(number, amount)
+                .flatMap(updated -> updated > 0 ? Mono.<Void>empty() : Mono.error(notFound(number)));
+    }
+
+    private Mono<Account> find(long number) {
+        return accountRepository.findByNumber(number).switchIfEmpty(Mono.error(() -> notFound(number)));
+    }
+
+    private Mono<Transaction> save(Transaction transaction, Account source, Account receiver) {
+        if (source != null)
+            transaction.setSourceAccountId(source.getId());
+        if (receiver != null)
+            transaction.setReceiverAccountId(receiver.getId());
+
+        return sequenceIds.next("tb_transaction_seq")
+                .flatMap(id -> {
+                    transaction.setId(id);
+                    return template.insert(transaction);
+                })
+                .doOnNext(saved -> {
+                    saved.setSourceAccount(source);
+                    saved.setReceiverAccount(receiver);
+                });
+    }
+
+    private static NotFoundException notFound(long number) {
+        return new NotFoundException("Conta " + number + " inexistente");
+    }
+}
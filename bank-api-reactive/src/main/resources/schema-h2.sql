@@ -0,0 +1,32 @@
+-- Esquema do perfil embedded (H2), equivalente ao gerado pelo Hibernate no módulo MVC
+CREATE SEQUENCE IF NOT EXISTS tb_account_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_transaction_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tb_account (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    number BIGINT NOT NULL UNIQUE,
+    balance BIGINT NOT NULL,
+    special_limit BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    balance_slots INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS tb_account_slot (
+    account_id BIGINT NOT NULL REFERENCES tb_account (id),
+    slot INTEGER NOT NULL,
+    balance BIGINT NOT NULL,
+    PRIMARY KEY (account_id, slot)
+);
+
+CREATE TABLE IF NOT EXISTS tb_transaction (
+    id BIGINT NOT NULL PRIMARY KEY,
+    source_account_id BIGINT REFERENCES tb_account (id),
+    receiver_account_id BIGINT REFERENCES tb_account (id),
+    amount BIGINT NOT NULL,
+    type VARCHAR(255),
+    date_time TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_source_date ON tb_transaction (source_account_id, date_time, id);
+CREATE INDEX IF NOT EXISTS idx_transaction_receiver_date ON tb_transaction (receiver_account_id, date_time, id);
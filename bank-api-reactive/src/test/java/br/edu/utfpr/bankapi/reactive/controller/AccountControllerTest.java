@@ -0,0 +1,74 @@
+package br.edu.utfpr.bankapi.reactive.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class AccountControllerTest {
+
+    @Autowired
+    WebTestClient client;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @AfterEach
+    void limpar() {
+        databaseClient.sql("delete from tb_account").then().block();
+    }
+
+    private WebTestClient.ResponseSpec criar(String json) {
+        return client.post().uri("/account").contentType(MediaType.APPLICATION_JSON).bodyValue(json).exchange();
+    }
+
+    @Test
+    void deveriaCriarContaComSaldoZero() {
+        // ACT + ASSERT
+        criar("""
+                { "name": "Felizberto", "number": 12345, "balance": 500, "specialLimit": 100 }""")
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNumber()
+                .jsonPath("$.balance").isEqualTo(0.0)
+                .jsonPath("$.specialLimit").isEqualTo(100.0)
+                .jsonPath("$.balanceWithLimit").isEqualTo(100.0);
+
+        client.get().uri("/account/12345/balance").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.balance").isEqualTo(0.0);
+    }
+
+    @Test
+    void deveriaRetornar400ParaContaInvalida() {
+        criar("{}").expectStatus().isBadRequest();
+    }
+
+    @Test
+    void deveriaRetornar404ParaContaInexistente() {
+        client.get().uri("/account/99999").exchange().expectStatus().isNotFound();
+        client.get().uri("/account/99999/balance").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void deveriaListarContasEmNdjson() {
+        // ARRANGE
+        for (int i = 1; i <= 3; i++)
+            criar("""
+                    { "name": "Conta %d", "number": %d, "specialLimit": 0 }""".formatted(i, i))
+                    .expectStatus().isCreated();
+
+        // ACT + ASSERT: uma conta por linha
+        client.get().uri("/account").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> Assertions.assertEquals(3, body.strip().split("\n").length));
+    }
+}
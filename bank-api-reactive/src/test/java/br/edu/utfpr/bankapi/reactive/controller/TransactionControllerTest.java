@@ -0,0 +1,103 @@
+package br.edu.utfpr.bankapi.reactive.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class TransactionControllerTest {
+
+    @Autowired
+    WebTestClient client;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @AfterEach
+    void limpar() {
+        databaseClient.sql("delete from tb_transaction").then().block();
+        databaseClient.sql("delete from tb_account").then().block();
+    }
+
+    // Valores em centavos
+    private void conta(long number, long balance, long specialLimit) {
+        databaseClient.sql("""
+                insert into tb_account (id, name, number, balance, special_limit, version, balance_slots)
+                values (:id, :name, :number, :balance, :limit, 0, 0)""")
+                .bind("id", number)
+                .bind("name", "Conta " + number)
+                .bind("number", number)
+                .bind("balance", balance)
+                .bind("limit", specialLimit)
+                .then().block();
+    }
+
+    private WebTestClient.ResponseSpec post(String path, String json) {
+        return client.post().uri(path).contentType(MediaType.APPLICATION_JSON).bodyValue(json).exchange();
+    }
+
+    @Test
+    void deveriaRetornarDadosCorretosParaDeposito() {
+        // ARRANGE
+        conta(987654321, 0, 100000);
+
+        // ACT + ASSERT
+        post("/transaction/deposit", """
+                { "receiverAccountNumber": 987654321, "amount": 200 }""")
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.type").isEqualTo("DEPOSIT")
+                .jsonPath("$.amount").isEqualTo(200.0)
+                .jsonPath("$.receiverAccount.balance").isEqualTo(200.0)
+                .jsonPath("$.sourceAccount").isEmpty();
+    }
+
+    @Test
+    void deveriaTransferirEntreContas() {
+        // ARRANGE
+        conta(12345, 100000, 0);
+        conta(67890, 50000, 0);
+
+        // ACT + ASSERT
+        post("/transaction/transfer", """
+                { "sourceAccountNumber": 67890, "receiverAccountNumber": 12345, "amount": 200 }""")
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.sourceAccount.balance").isEqualTo(300.0)
+                .jsonPath("$.receiverAccount.balance").isEqualTo(1200.0);
+    }
+
+    @Test
+    void deveriaRetornar400ParaSaqueSemSaldo() {
+        // ARRANGE: o limite cobre até 150.00
+        conta(12345, 10000, 5000);
+
+        // ACT + ASSERT
+        post("/transaction/withdraw", """
+                { "sourceAccountNumber": 12345, "amount": 150.01 }""")
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("No balance in account");
+        client.get().uri("/account/12345").exchange()
+                .expectBody().jsonPath("$.balance").isEqualTo(100.0);
+    }
+
+    @Test
+    void deveriaDesfazerDebitoQuandoDestinoNaoExiste() {
+        // ARRANGE: a origem (número menor) é debitada antes do crédito
+        conta(12345, 100000, 0);
+
+        // ACT + ASSERT
+        post("/transaction/transfer", """
+                { "sourceAccountNumber": 12345, "receiverAccountNumber": 99999, "amount": 200 }""")
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("Conta 99999 inexistente");
+        client.get().uri("/account/12345").exchange()
+                .expectBody().jsonPath("$.balance").isEqualTo(1000.0);
+    }
+}
@@ -0,0 +1,34 @@
+package br.edu.utfpr.bankapi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Sobe a aplicação (sem servidor web) com o perfil embedded, como o LoadTest,
+ * sobre um banco H2 em memória exclusivo, para os benchmarks que passam pela
+ * camada de persistência. O perfil não depende do application.properties de
+ * src/test estar no classpath.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        var args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN"));
+        for (var property : properties)
+            args.add("--" + property);
+
+        return new SpringApplicationBuilder(Application.class)
+                .profiles("embedded")
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,68 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.edu.utfpr.bankapi.BenchmarkContext;
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.service.TransactionService;
+
+/**
+ * Depósitos concorrentes em uma única conta, no modo pessimistic, variando a
+ * quantidade de sub-saldos da conta. Com 0, a conta é normal e cada crédito
+ * bloqueia a linha da conta (SELECT ... FOR UPDATE).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class HotAccountBenchmark {
+
+    @Param({ "0", "1", "4", "16" })
+    public int slots;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+
+    @Setup
+    public void setup() throws Exception {
+        context = BenchmarkContext.start(
+                "bankapi.concurrency.mode=pessimistic",
+                "bankapi.hot-accounts.enabled=true");
+        transactionService = context.getBean(TransactionService.class);
+
+        context.getBean(AccountRepository.class).save(new Account("Loja", 1, 0, 0));
+        if (slots > 0)
+            context.getBean(HotAccounts.class).resize(1, slots);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Transaction depositar() throws Exception {
+        return transactionService.deposit(new DepositDTO(1, 1));
+    }
+}
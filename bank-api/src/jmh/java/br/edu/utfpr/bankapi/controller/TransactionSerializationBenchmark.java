@@ -0,0 +1,70 @@
+package br.edu.utfpr.bankapi.controller;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+/**
+ * Serialização JSON da resposta das operações (Transaction com as contas),
+ * com o ObjectMapper configurado como no Spring Boot
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Transaction transfer;
+    private Transaction deposit;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        var source = new Account("John Doe", 12345, 100000, 50000);
+        source.setId(1);
+        var receiver = new Account("Jane Doe", 67890, 50000, 30000);
+        receiver.setId(2);
+
+        transfer = new Transaction(source, receiver, 20000, TransactionType.TRANSFER);
+        transfer.setId(10);
+        transfer.setDateTime(LocalDateTime.of(2024, 4, 1, 10, 30));
+        deposit = new Transaction(null, receiver, 20000, TransactionType.DEPOSIT);
+        deposit.setId(11);
+        deposit.setDateTime(LocalDateTime.of(2024, 4, 1, 10, 31));
+    }
+
+    @Benchmark
+    public byte[] transferencia() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(transfer);
+    }
+
+    @Benchmark
+    public byte[] deposito() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(deposit);
+    }
+}
@@ -0,0 +1,88 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.BenchmarkContext;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Inclusão de contas em lote, variando quantos ids são reservados por acesso à
+ * sequência (1 = um acesso por conta). Com allocationSize 0, as contas são
+ * IdentityAccount, com o id gerado por IDENTITY: cada INSERT é executado na
+ * hora para obter o id, sem JDBC batch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountInsertBenchmark {
+
+    private static final int BATCH = 500;
+
+    // 0 = IDENTITY
+    @Param({ "0", "1", "50" })
+    public int allocationSize;
+
+    private ConfigurableApplicationContext context;
+    private AccountRepository accountRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private long nextNumber;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkContext.start(
+                "spring.jpa.properties.bankapi.id.allocation_size=" + Math.max(allocationSize, 1));
+        accountRepository = context.getBean(AccountRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int inserirContas() {
+        if (allocationSize == 0)
+            return inserirContasIdentity();
+
+        var accounts = new ArrayList<Account>(BATCH);
+        for (int i = 0; i < BATCH; i++)
+            accounts.add(new Account("Conta " + nextNumber, nextNumber++, 0, 0));
+        return accountRepository.saveAll(accounts).size();
+    }
+
+    /**
+     * Uma transação por lote, como no saveAll
+     */
+    private int inserirContasIdentity() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < BATCH; i++)
+                entityManager.persist(new IdentityAccount("Conta " + nextNumber, nextNumber++));
+        });
+        return BATCH;
+    }
+}
@@ -0,0 +1,42 @@
+package br.edu.utfpr.bankapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * As colunas de Account com o id gerado por IDENTITY, como antes das
+ * sequências: referência para o AccountInsertBenchmark. Existe apenas no
+ * classpath dos benchmarks.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "bench_identity_account")
+public class IdentityAccount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(unique = true, nullable = false)
+    private long number;
+
+    @Column(nullable = false)
+    private long balance;
+
+    @Column(nullable = false)
+    private long specialLimit;
+
+    public IdentityAccount(String name, long number) {
+        this.name = name;
+        this.number = number;
+    }
+}
@@ -0,0 +1,76 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cálculo de juros: individual (double e centavos) e em lote
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InterestCalculatorBenchmark {
+
+    private static final int SIZE = 1 << 16;
+
+    private double[] valores = new double[SIZE];
+    private long[] centavos = new long[SIZE];
+    private float[] taxas = new float[SIZE];
+    private int[] prazos = new int[SIZE];
+    private double[] juros = new double[SIZE];
+    private long[] jurosCentavos = new long[SIZE];
+    private int next;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            centavos[i] = random.nextInt(10_000_000);
+            valores[i] = centavos[i] / 100.0;
+            // Poucas taxas e prazos distintos, como no fechamento do mês
+            taxas[i] = (1 + random.nextInt(10)) / 10f;
+            prazos[i] = 1 + random.nextInt(12);
+        }
+    }
+
+    @Benchmark
+    public double calcularJuros() {
+        int i = next++ & (SIZE - 1);
+        return InterestCalculator.calcularJuros(valores[i], taxas[i], prazos[i]);
+    }
+
+    @Benchmark
+    public long calcularJurosCentavos() {
+        int i = next++ & (SIZE - 1);
+        return InterestCalculator.calcularJurosCentavos(centavos[i], taxas[i], prazos[i]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] calcularJurosEmLote() {
+        InterestCalculator.calcularJuros(valores, taxas, prazos, juros);
+        return juros;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] calcularJurosCentavosEmLote() {
+        InterestCalculator.calcularJurosCentavos(centavos, taxas, prazos, jurosCentavos);
+        return jurosCentavos;
+    }
+}
@@ -0,0 +1,50 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+/**
+ * Conversão dos DTOs das requisições em Transaction (TransactionService)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionMappingBenchmark {
+
+    private TransferDTO transfer = new TransferDTO(12345, 67890, 20000);
+    private DepositDTO deposit = new DepositDTO(12345, 20000);
+    private WithdrawDTO withdraw = new WithdrawDTO(12345, 20000);
+
+    @Benchmark
+    public Transaction transferencia() {
+        return TransactionService.toTransaction(transfer, TransactionType.TRANSFER);
+    }
+
+    @Benchmark
+    public Transaction deposito() {
+        return TransactionService.toTransaction(deposit, TransactionType.DEPOSIT);
+    }
+
+    @Benchmark
+    public Transaction saque() {
+        return TransactionService.toTransaction(withdraw, TransactionType.WITHDRAW);
+    }
+}
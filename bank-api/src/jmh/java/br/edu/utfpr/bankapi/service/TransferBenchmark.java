@@ -0,0 +1,90 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import br.edu.utfpr.bankapi.BenchmarkContext;
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+
+/**
+ * Transferências concorrentes sobre o banco H2 em memória, em cada modo de
+ * controle de concorrência (bankapi.concurrency.mode). Com poucas contas há
+ * disputa pelas mesmas linhas; no modo optimistic, as transferências que
+ * esgotam as novas tentativas são contadas em "conflitos".
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TransferBenchmark {
+
+    @Param({ "striped", "pessimistic", "optimistic" })
+    public String mode;
+
+    @Param({ "4", "1000" })
+    public int accounts;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkContext.start("bankapi.concurrency.mode=" + mode);
+        transactionService = context.getBean(TransactionService.class);
+
+        var list = new ArrayList<Account>(accounts);
+        for (int i = 0; i < accounts; i++)
+            list.add(new Account("Conta " + i, i, 1_000_000_000L, 0));
+        context.getBean(AccountRepository.class).saveAll(list);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long conflitos;
+    }
+
+    @Benchmark
+    public Transaction transferir(Counters counters) throws Exception {
+        var random = ThreadLocalRandom.current();
+        long source = random.nextInt(accounts);
+        long receiver = (source + 1 + random.nextInt(accounts - 1)) % accounts;
+
+        var dto = new TransferDTO(source, receiver, 1);
+        try {
+            return transactionService.transfer(dto);
+        } catch (OptimisticLockingFailureException ex) {
+            counters.conflitos++;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package br.edu.utfpr.bankapi.validations;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+/**
+ * Validação de saldo, com e sem saldo suficiente (a rejeição cria a exceção)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AvailableBalanceValidationBenchmark {
+
+    private AvailableBalanceValidation validation = new AvailableBalanceValidation();
+    private Transaction comSaldo;
+    private Transaction semSaldo;
+
+    @Setup
+    public void setup() {
+        var account = new Account("John Doe", 12345, 100000, 50000);
+        comSaldo = new Transaction(account, null, 20000, TransactionType.WITHDRAW);
+        semSaldo = new Transaction(account, null, 200000, TransactionType.WITHDRAW);
+    }
+
+    @Benchmark
+    public Transaction validarComSaldo() {
+        validation.validate(comSaldo);
+        return comSaldo;
+    }
+
+    @Benchmark
+    public Object validarSemSaldo() {
+        try {
+            validation.validate(semSaldo);
+            return semSaldo;
+        } catch (WithoutBalanceException ex) {
+            return ex;
+        }
+    }
+}
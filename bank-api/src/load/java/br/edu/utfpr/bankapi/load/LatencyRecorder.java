@@ -0,0 +1,64 @@
+package br.edu.utfpr.bankapi.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latências e erros por endpoint. As latências são guardadas integralmente
+ * (em microssegundos), de modo que os percentis são exatos.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Series> series = new TreeMap<>();
+
+    private static class Series {
+        long[] latencies = new long[1024];
+        int count;
+        long errors;
+    }
+
+    public synchronized void record(String endpoint, long nanos, boolean ok) {
+        var s = series.computeIfAbsent(endpoint, k -> new Series());
+        if (s.count == s.latencies.length)
+            s.latencies = Arrays.copyOf(s.latencies, s.count * 2);
+        s.latencies[s.count++] = nanos / 1000;
+        if (!ok)
+            s.errors++;
+    }
+
+    /**
+     * Tabela com vazão e percentis (p50, p99, p99.9) por endpoint
+     */
+    public synchronized String report(double seconds) {
+        var out = new StringBuilder(String.format("%-32s %9s %8s %10s %10s %10s %10s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+
+        var total = new Series();
+        for (var entry : series.entrySet()) {
+            var s = entry.getValue();
+            line(out, entry.getKey(), s, seconds);
+
+            total.latencies = Arrays.copyOf(total.latencies, total.count + s.count);
+            System.arraycopy(s.latencies, 0, total.latencies, total.count, s.count);
+            total.count += s.count;
+            total.errors += s.errors;
+        }
+        line(out, "total", total, seconds);
+        return out.toString();
+    }
+
+    private static void line(StringBuilder out, String name, Series s, double seconds) {
+        long[] sorted = Arrays.copyOf(s.latencies, s.count);
+        Arrays.sort(sorted);
+        out.append(String.format("%-32s %9d %8d %10.1f %10.2f %10.2f %10.2f%n", name, s.count, s.errors,
+                s.count / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999)));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0)
+            return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1000.0;
+    }
+}
@@ -0,0 +1,225 @@
+package br.edu.utfpr.bankapi.load;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.utfpr.bankapi.Application;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+
+/**
+ * Teste de carga HTTP em modelo aberto: as requisições são disparadas nos
+ * instantes de chegada programados, sem esperar as respostas anteriores, e a
+ * latência é medida a partir do instante programado (e não do envio), para que
+ * a lentidão do servidor não esconda a fila que ela gera.
+ * 
+ * Opções (chave=valor):
+ * 
+ * <pre>
+ * target=http://host:porta  API já em execução, com as contas 1..accounts;
+ *                           sem target, a aplicação é iniciada com o perfil
+ *                           embedded e as contas são criadas
+ * profiles=virtual          perfis adicionais da aplicação iniciada
+ * accounts=1000             quantidade de contas
+ * rate=200                  requisições por segundo
+ * duration=30               duração, em segundos
+ * warmup=5                  segundos iniciais fora do relatório
+ * arrival=poisson           poisson ou uniform
+ * mix=transfer:40,deposit:20,withdraw:20,get:15,history:5
+ * skew=0                    expoente de Zipf na escolha das contas (0 = uniforme)
+ * seed=42                   semente do gerador
+ * max-in-flight=10000       acima disso as requisições são descartadas
+ * record=arquivo.ndjson     grava as requisições geradas
+ * replay=arquivo.ndjson     reenvia um log gravado, nos mesmos instantes
+ * speed=1.0                 fator de velocidade do replay
+ * </pre>
+ * 
+ * Platform x virtual threads: rodar uma vez sem perfil adicional e outra com
+ * profiles=virtual, na mesma taxa, em Java 21 (o perfil Maven jdk21 compila
+ * para 21; em Java 17 o perfil virtual só ativa o ConnectionLimiter). Medição
+ * em JDK 21.0.1, 1 CPU, gerador no mesmo processo, H2, mix padrão, duration=30,
+ * duas execuções a 40 req/s (latência do total, em ms):
+ * 
+ * <pre>
+ * modo        taxa   p50           p99             p999
+ * platform    40/s   22,1 / 20,1   78,2 / 84,0     101,5 / 124,5
+ * virtual     40/s   15,0 / 21,6   222,6 / 353,9   266,2 / 375,5
+ * platform    80/s   3280          8237            10836
+ * virtual     80/s   950           4624            9940
+ * </pre>
+ * 
+ * Abaixo da saturação, a mediana é parecida e a cauda do modo virtual é maior,
+ * provavelmente pelas rajadas que aguardam na fila do ConnectionLimiter (10
+ * permissões, o tamanho do pool). A 80 req/s os dois modos saturam a única CPU; o virtual
+ * acumula menos fila (p50 ~1 s contra ~3,3 s). O resultado depende da CPU e do
+ * banco: com vários núcleos e banco real, repetir com target= apontando para a
+ * API iniciada em cada modo.
+ */
+public class LoadTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (var arg : args) {
+            int i = arg.indexOf('=');
+            if (i < 0)
+                throw new IllegalArgumentException("Opção inválida (use chave=valor): " + arg);
+            options.put(arg.substring(0, i), arg.substring(i + 1));
+        }
+
+        int accounts = Integer.parseInt(options.getOrDefault("accounts", "1000"));
+        long warmupMicros = Long.parseLong(options.getOrDefault("warmup", "5")) * 1_000_000;
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+
+        ConfigurableApplicationContext context = null;
+        String target = options.get("target");
+        if (target == null) {
+            // O restart do devtools executaria o main novamente em outra thread
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            context = new SpringApplicationBuilder(Application.class)
+                    .profiles(("embedded," + options.getOrDefault("profiles", "")).split(","))
+                    .run("--server.port=0", "--logging.level.root=WARN");
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            seed(context.getBean(AccountRepository.class), accounts);
+        }
+
+        Stream<String> replay = null;
+        try {
+            Iterator<RecordedRequest> requests;
+            if (options.containsKey("replay")) {
+                double speed = Double.parseDouble(options.getOrDefault("speed", "1.0"));
+                replay = Files.lines(Path.of(options.get("replay")));
+                requests = replay
+                        .filter(line -> !line.isBlank())
+                        .map(line -> parse(line, speed))
+                        .iterator();
+            } else {
+                requests = new TrafficGenerator(accounts,
+                        Double.parseDouble(options.getOrDefault("skew", "0")),
+                        options.getOrDefault("mix", "transfer:40,deposit:20,withdraw:20,get:15,history:5"),
+                        Double.parseDouble(options.getOrDefault("rate", "200")),
+                        !"uniform".equals(options.get("arrival")),
+                        Long.parseLong(options.getOrDefault("duration", "30")),
+                        Long.parseLong(options.getOrDefault("seed", "42")));
+            }
+
+            BufferedWriter record = options.containsKey("record")
+                    ? Files.newBufferedWriter(Path.of(options.get("record")))
+                    : null;
+
+            var recorder = new LatencyRecorder();
+            try {
+                run(target, requests, warmupMicros, maxInFlight, record, recorder);
+            } finally {
+                if (record != null)
+                    record.close();
+            }
+        } finally {
+            if (replay != null)
+                replay.close();
+            if (context != null)
+                context.close();
+        }
+    }
+
+    private static RecordedRequest parse(String line, double speed) {
+        try {
+            var request = objectMapper.readValue(line, RecordedRequest.class);
+            return new RecordedRequest((long) (request.at() / speed), request.method(), request.path(),
+                    request.body());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Contas 1..n, com saldo suficiente para toda a execução
+    private static void seed(AccountRepository repository, int n) {
+        var batch = new ArrayList<Account>(1000);
+        for (int number = 1; number <= n; number++) {
+            batch.add(new Account("Conta " + number, number, 100_000_000L, 0));
+            if (batch.size() == 1000 || number == n) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        System.out.printf("%d contas criadas%n", n);
+    }
+
+    private static void run(String target, Iterator<RecordedRequest> requests, long warmupMicros, int maxInFlight,
+            BufferedWriter record, LatencyRecorder recorder) throws Exception {
+        var client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        var inFlight = new Semaphore(maxInFlight);
+        var dropped = new AtomicLong();
+        long lastAt = 0;
+
+        long start = System.nanoTime();
+        while (requests.hasNext()) {
+            var r = requests.next();
+            lastAt = r.at();
+
+            // Aguarda o instante programado (modelo aberto)
+            long intended = start + r.at() * 1000;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0)
+                LockSupport.parkNanos(wait);
+
+            if (record != null) {
+                record.write(objectMapper.writeValueAsString(r));
+                record.newLine();
+            }
+
+            if (!inFlight.tryAcquire()) {
+                dropped.incrementAndGet();
+                continue;
+            }
+
+            var builder = HttpRequest.newBuilder(URI.create(target + r.path())).timeout(Duration.ofSeconds(30));
+            if (r.body() != null)
+                builder.header("Content-Type", "application/json")
+                        .method(r.method(), HttpRequest.BodyPublishers.ofString(r.body()));
+            else
+                builder.method(r.method(), HttpRequest.BodyPublishers.noBody());
+
+            boolean measured = r.at() >= warmupMicros;
+            client.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        inFlight.release();
+                        if (measured)
+                            recorder.record(r.endpoint(), System.nanoTime() - intended,
+                                    ex == null && response.statusCode() < 400);
+                    });
+        }
+
+        // Aguarda as respostas pendentes
+        if (!inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS))
+            System.out.println("Algumas requisições não terminaram em 60 s");
+
+        double seconds = Math.max(1, lastAt - warmupMicros) / 1e6;
+        System.out.println();
+        System.out.print(recorder.report(seconds));
+        System.out.printf("descartadas (max-in-flight): %d%n", dropped.get());
+    }
+}
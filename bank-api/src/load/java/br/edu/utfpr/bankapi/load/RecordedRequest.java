@@ -0,0 +1,19 @@
+package br.edu.utfpr.bankapi.load;
+
+/**
+ * Requisição do log de requisições (NDJSON, uma por linha)
+ * 
+ * @param at     instante de envio, em microssegundos desde o início
+ * @param method método HTTP
+ * @param path   caminho, ex.: /transaction/transfer
+ * @param body   corpo JSON (ou null)
+ */
+public record RecordedRequest(long at, String method, String path, String body) {
+
+    /**
+     * Nome usado no relatório: método e caminho, com os números trocados por {n}
+     */
+    public String endpoint() {
+        return method + " " + path.replaceAll("/\\d+", "/{n}").replaceAll("\\?.*", "");
+    }
+}
@@ -0,0 +1,121 @@
+package br.edu.utfpr.bankapi.load;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Gera as requisições de uma execução: instantes de chegada (Poisson ou
+ * uniformes) à taxa configurada, tipo de operação sorteado pelo mix e contas
+ * sorteadas com distribuição de Zipf.
+ */
+public class TrafficGenerator implements Iterator<RecordedRequest> {
+
+    private static final String[] KINDS = { "transfer", "deposit", "withdraw", "get", "history" };
+
+    private final SplittableRandom random;
+    private final ZipfSampler accounts;
+    private final int accountCount;
+    private final double[] cumulative = new double[KINDS.length];
+    private final double rate;
+    private final boolean poisson;
+    private final long durationMicros;
+
+    private double at;
+    private RecordedRequest next;
+
+    /**
+     * @param mix ex.: "transfer:40,deposit:20,withdraw:20,get:15,history:5"
+     */
+    public TrafficGenerator(int accountCount, double skew, String mix, double rate, boolean poisson,
+            long durationSeconds, long seed) {
+        this.random = new SplittableRandom(seed);
+        this.accounts = new ZipfSampler(accountCount, skew);
+        this.accountCount = accountCount;
+        this.rate = rate;
+        this.poisson = poisson;
+        this.durationMicros = durationSeconds * 1_000_000;
+
+        double[] weights = new double[KINDS.length];
+        for (var part : mix.split(",")) {
+            var kv = part.trim().split(":");
+            int kind = indexOf(kv[0]);
+            weights[kind] = Double.parseDouble(kv[1]);
+        }
+
+        double sum = 0;
+        for (int i = 0; i < KINDS.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        if (sum <= 0)
+            throw new IllegalArgumentException("Mix sem operações: " + mix);
+        for (int i = 0; i < KINDS.length; i++)
+            cumulative[i] /= sum;
+    }
+
+    private static int indexOf(String kind) {
+        for (int i = 0; i < KINDS.length; i++) {
+            if (KINDS[i].equals(kind))
+                return i;
+        }
+        throw new IllegalArgumentException("Operação desconhecida no mix: " + kind);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null)
+            next = generate();
+        return next != null;
+    }
+
+    @Override
+    public RecordedRequest next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        var request = next;
+        next = null;
+        return request;
+    }
+
+    private RecordedRequest generate() {
+        // Intervalo entre chegadas: exponencial (Poisson) ou constante
+        at += poisson ? -Math.log(1 - random.nextDouble()) * 1e6 / rate : 1e6 / rate;
+        if (at >= durationMicros)
+            return null;
+
+        long time = (long) at;
+        long account = account();
+        double u = random.nextDouble();
+        int kind = 0;
+        while (kind < KINDS.length - 1 && u >= cumulative[kind])
+            kind++;
+
+        return switch (KINDS[kind]) {
+            case "transfer" -> new RecordedRequest(time, "POST", "/transaction/transfer", String.format(
+                    "{\"sourceAccountNumber\":%d,\"receiverAccountNumber\":%d,\"amount\":1.00}", account,
+                    other(account)));
+            case "deposit" -> new RecordedRequest(time, "POST", "/transaction/deposit",
+                    String.format("{\"receiverAccountNumber\":%d,\"amount\":1.00}", account));
+            case "withdraw" -> new RecordedRequest(time, "POST", "/transaction/withdraw",
+                    String.format("{\"sourceAccountNumber\":%d,\"amount\":1.00}", account));
+            case "get" -> new RecordedRequest(time, "GET", "/account/" + account, null);
+            default -> new RecordedRequest(time, "GET", "/transaction/history/" + account + "?size=20", null);
+        };
+    }
+
+    // Números das contas: 1..accountCount
+    private long account() {
+        return accounts.next(random) + 1;
+    }
+
+    private long other(long account) {
+        if (accountCount == 1)
+            return account;
+        long other;
+        do {
+            other = account();
+        } while (other == account);
+        return other;
+    }
+}
@@ -0,0 +1,30 @@
+package br.edu.utfpr.bankapi.load;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sorteia índices em [0, n) com distribuição de Zipf: o índice k tem peso
+ * 1 / (k + 1)^s. Com s = 0 a distribuição é uniforme; quanto maior s, mais as
+ * operações se concentram nas primeiras contas (contas "quentes").
+ */
+public class ZipfSampler {
+
+    private final double[] cdf;
+
+    public ZipfSampler(int n, double s) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, s);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++)
+            cdf[k] /= sum;
+    }
+
+    public int next(RandomGenerator random) {
+        int i = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(i >= 0 ? i : -i - 1, cdf.length - 1);
+    }
+}
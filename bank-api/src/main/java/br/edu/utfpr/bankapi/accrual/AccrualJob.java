@@ -0,0 +1,266 @@
+package br.edu.utfpr.bankapi.accrual;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.aggregates.DailyAggregates;
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
+import br.edu.utfpr.bankapi.concurrency.HotAccounts;
+import br.edu.utfpr.bankapi.events.TransactionEventBus;
+import br.edu.utfpr.bankapi.journal.TransactionJournal;
+import br.edu.utfpr.bankapi.ledger.PostingLedger;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.AccrualCheckpoint;
+import br.edu.utfpr.bankapi.model.Money;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.AccrualCheckpointRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import br.edu.utfpr.bankapi.service.InterestCalculator;
+
+/**
+ * Fechamento do mês: aplica juros sobre saldos positivos e encargos sobre o
+ * cheque especial utilizado (saldos negativos).
+ * 
+ * As contas são divididas em partições por faixa de id, processadas em
+ * paralelo. Cada partição é percorrida em blocos de lock-batch-size ids: um
+ * bloco bloqueia apenas as suas contas e é gravado em uma única transação
+ * (transações ACCRUAL e atualizações de saldo em JDBC batch) junto com o seu
+ * checkpoint. Assim, as operações concorrentes e as outras partições esperam
+ * no máximo por um bloco, e não pela partição inteira; executar novamente o
+ * mesmo mês processa apenas os blocos que faltam.
+ */
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "bankapi.accrual.enabled", havingValue = "true")
+public class AccrualJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AccrualJob.class);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccrualCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private AccountLockStrategy accountLockStrategy;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Presente apenas com bankapi.journal.enabled=true
+    @Autowired(required = false)
+    private TransactionJournal transactionJournal;
+
+    @Autowired(required = false)
+    private TransactionEventBus eventBus;
+
+    // Presente apenas com bankapi.ledger.enabled=true
+    @Autowired(required = false)
+    private PostingLedger ledger;
+
+    // Presente apenas com bankapi.aggregates.enabled=true
+    @Autowired(required = false)
+    private DailyAggregates dailyAggregates;
+
+    // Presente apenas com bankapi.hot-accounts.enabled=true
+    @Autowired(required = false)
+    private HotAccounts hotAccounts;
+
+    // Taxas mensais, em %
+    @Value("${bankapi.accrual.interest-rate:0.5}")
+    private float interestRate;
+
+    @Value("${bankapi.accrual.overdraft-rate:8.0}")
+    private float overdraftRate;
+
+    @Value("${bankapi.accrual.partition-size:1000}")
+    private long partitionSize;
+
+    @Value("${bankapi.accrual.lock-batch-size:50}")
+    private long lockBatchSize;
+
+    @Value("${bankapi.accrual.threads:4}")
+    private int threads;
+
+    /**
+     * Processa o mês anterior. Como as partições concluídas são ignoradas, as
+     * execuções seguintes do mesmo dia retomam uma execução que falhou.
+     */
+    @Scheduled(cron = "${bankapi.accrual.cron:0 0 * 1 * *}")
+    void runScheduled() {
+        try {
+            run(YearMonth.now().minusMonths(1));
+        } catch (Exception ex) {
+            log.error("Falha no fechamento do mês", ex);
+        }
+    }
+
+    /**
+     * Aplica os juros e encargos do mês às partições ainda não processadas
+     * 
+     * @return quantidade de partições processadas nesta execução
+     */
+    public synchronized int run(YearMonth period) throws InterruptedException {
+        var min = accountRepository.findMinId();
+        var max = accountRepository.findMaxId();
+        if (min.isEmpty() || max.isEmpty())
+            return 0;
+
+        long blockSize = Math.min(lockBatchSize, partitionSize);
+        var completed = new HashSet<>(checkpointRepository.findCompletedBlocks(period.toString()));
+        var pending = new ArrayList<Long>();
+        for (long p = min.get() / partitionSize; p <= max.get() / partitionSize; p++) {
+            long firstId = p * partitionSize;
+            for (long block = firstId; block < firstId + partitionSize; block += blockSize) {
+                if (!completed.contains(block)) {
+                    pending.add(firstId);
+                    break;
+                }
+            }
+        }
+
+        log.info("Fechamento de {}: {} partições pendentes", period, pending.size());
+
+        var counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                r -> new Thread(r, "accrual-" + counter.incrementAndGet()));
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(pending.size());
+            for (long firstId : pending)
+                futures.add(executor.submit(() -> processPartition(period, firstId, blockSize, completed)));
+
+            int processed = 0;
+            IllegalStateException failure = null;
+            for (var future : futures) {
+                try {
+                    future.get();
+                    processed++;
+                } catch (ExecutionException ex) {
+                    if (failure == null)
+                        failure = new IllegalStateException("Falha no fechamento de " + period);
+                    failure.addSuppressed(ex.getCause());
+                }
+            }
+
+            if (failure != null)
+                throw failure;
+            return processed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int processPartition(YearMonth period, long firstId, long blockSize, Set<Long> completed)
+            throws Exception {
+        int accrued = 0;
+        for (long block = firstId; block < firstId + partitionSize; block += blockSize) {
+            if (completed.contains(block))
+                continue;
+
+            long first = block;
+            long last = block + blockSize - 1;
+            var numbers = accountRepository.findNumbersByIdBetween(first, last);
+
+            accrued += accountLockStrategy.execute(
+                    () -> transactionTemplate.execute(status -> accrue(period, first, last, new HashSet<>(numbers))),
+                    numbers.stream().mapToLong(Long::longValue).toArray());
+        }
+        return accrued;
+    }
+
+    private int accrue(YearMonth period, long firstId, long lastId, HashSet<Long> locked) {
+        var found = accountLockStrategy.lockOnRead()
+                ? accountRepository.findByIdBetweenForUpdate(firstId, lastId)
+                : accountRepository.findByIdBetweenOrderByIdAsc(firstId, lastId);
+
+        // Contas criadas (ou renumeradas) depois da leitura dos números não estão
+        // bloqueadas e ficam fora deste fechamento
+        var accounts = new ArrayList<Account>(found.size());
+        for (var account : found) {
+            if (locked.contains(account.getNumber()))
+                accounts.add(ledger != null ? ledger.view(account)
+                        : hotAccounts != null ? hotAccounts.withSlots(account) : account);
+        }
+
+        int n = accounts.size();
+        long[] balances = new long[n];
+        long[] bases = new long[n];
+        float[] rates = new float[n];
+        int[] terms = new int[n];
+        long[] amounts = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            var account = accounts.get(i);
+            // Considera as operações que ainda estão no journal
+            long balance = transactionJournal == null ? account.getBalance()
+                    : Money.add(account.getBalance(), transactionJournal.pendingDelta(account.getNumber()));
+
+            balances[i] = balance;
+            bases[i] = Math.abs(balance);
+            rates[i] = balance > 0 ? interestRate : overdraftRate;
+            terms[i] = 1;
+        }
+
+        InterestCalculator.calcularJurosCentavos(bases, rates, terms, amounts);
+
+        var transactions = new ArrayList<Transaction>();
+        for (int i = 0; i < n; i++) {
+            if (amounts[i] == 0)
+                continue;
+
+            var account = accounts.get(i);
+            var transaction = new Transaction();
+            transaction.setType(TransactionType.ACCRUAL);
+            transaction.setAmount(amounts[i]);
+
+            if (balances[i] > 0) {
+                transaction.setReceiverAccount(account);
+                account.setBalance(Money.add(account.getBalance(), amounts[i]));
+            } else {
+                transaction.setSourceAccount(account);
+                account.setBalance(Money.subtract(account.getBalance(), amounts[i]));
+            }
+
+            transactions.add(transaction);
+        }
+
+        // As contas alteradas são gravadas no commit, junto com o checkpoint
+        transactionRepository.saveAll(transactions);
+        if (ledger != null)
+            ledger.post(transactions);
+        if (dailyAggregates != null)
+            dailyAggregates.enqueue(transactions);
+        checkpointRepository.save(new AccrualCheckpoint(
+                new AccrualCheckpoint.Key(period.toString(), firstId), LocalDateTime.now()));
+
+        if (eventBus != null)
+            transactions.forEach(eventBus::publishAfterCommit);
+
+        return n;
+    }
+}
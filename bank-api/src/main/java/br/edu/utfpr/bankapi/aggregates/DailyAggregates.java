@@ -0,0 +1,194 @@
+package br.edu.utfpr.bankapi.aggregates;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.dto.AggregateReportDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.DailyAggregate;
+import br.edu.utfpr.bankapi.model.Money;
+import br.edu.utfpr.bankapi.model.PendingAggregation;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.repository.DailyAggregateRepository;
+import br.edu.utfpr.bankapi.repository.PendingAggregationRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Movimento diário de cada conta por tipo de transação (tb_daily_aggregate),
+ * para relatórios sobre períodos sem percorrer tb_transaction.
+ *
+ * Quem grava transações registra os ids em tb_pending_aggregation
+ * ({@link #enqueue}), na mesma transação do banco (inclusão simples, sem
+ * disputar a linha do agregado). Em segundo plano, a cada
+ * fold-interval-millis, os pendentes são lidos de tb_transaction em lotes de
+ * fold-batch-size, somados em memória e gravados com um UPDATE atômico por
+ * (conta, dia, tipo), na mesma transação que os remove de
+ * tb_pending_aggregation. Assim, as contas quentes não voltam a disputar uma
+ * linha a cada crédito, e uma falha ou queda do processo só adia a agregação:
+ * os pendentes continuam na tabela e são somados na inicialização ou na
+ * próxima execução.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.aggregates.enabled", havingValue = "true")
+public class DailyAggregates {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyAggregates.class);
+
+    @Autowired
+    private DailyAggregateRepository aggregateRepository;
+
+    @Autowired
+    private PendingAggregationRepository pendingRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${bankapi.aggregates.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${bankapi.aggregates.max-daily-days:366}")
+    private long maxDailyDays;
+
+    @Value("${bankapi.aggregates.fold-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${bankapi.aggregates.fold-interval-millis:1000}")
+    private long intervalMillis;
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "daily-aggregates"));
+        // A primeira execução soma o que ficou pendente antes da inicialização
+        executor.scheduleWithFixedDelay(this::foldSafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void foldSafely() {
+        try {
+            fold();
+        } catch (Exception ex) {
+            // Os pendentes permanecem em tb_pending_aggregation até a próxima execução
+            log.error("Falha ao atualizar os agregados diários", ex);
+        }
+    }
+
+    /**
+     * Registra as transações para a agregação. Deve ser chamado na transação do
+     * banco que as inclui, após a atribuição dos ids.
+     */
+    public void enqueue(List<Transaction> transactions) {
+        for (var transaction : transactions)
+            entityManager.persist(new PendingAggregation(transaction.getId()));
+    }
+
+    /**
+     * Soma aos agregados todas as transações pendentes
+     */
+    public synchronized void fold() {
+        int folded;
+        do {
+            folded = foldBatch();
+        } while (folded == batchSize);
+    }
+
+    private int foldBatch() {
+        // Outra instância pode criar o mesmo agregado, ou recolher os mesmos
+        // pendentes, ao mesmo tempo: a transação é desfeita e o lote, lido de novo
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> apply());
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException ex) {
+                if (attempt >= maxAttempts)
+                    throw ex;
+                log.debug("Agregado alterado concorrentemente, nova tentativa ({})", attempt);
+            }
+        }
+    }
+
+    private int apply() {
+        var ids = pendingRepository.findTransactionIds(Limit.of(batchSize));
+        if (ids.isEmpty())
+            return 0;
+        if (pendingRepository.deleteByTransactionIds(ids) != ids.size())
+            throw new ConcurrencyFailureException("Transações pendentes agregadas por outra instância");
+
+        // Soma o lote por (conta, dia, tipo): créditos, débitos e transações
+        var deltas = new LinkedHashMap<DailyAggregate.Key, long[]>();
+        for (var transaction : transactionRepository.findWithAccountsByIdIn(ids)) {
+            var day = transaction.getDateTime().toLocalDate();
+            var source = transaction.getSourceAccount();
+            var receiver = transaction.getReceiverAccount();
+            if (source != null)
+                add(deltas, new DailyAggregate.Key(source.getId(), day, transaction.getType()), 0,
+                        transaction.getAmount(), 1);
+            if (receiver != null)
+                add(deltas, new DailyAggregate.Key(receiver.getId(), day, transaction.getType()),
+                        transaction.getAmount(), 0, source != null && source.getId() == receiver.getId() ? 0 : 1);
+        }
+
+        deltas.forEach((key, delta) -> {
+            int updated = aggregateRepository.add(key.getAccountId(), key.getDay(), key.getType(), delta[0], delta[1],
+                    delta[2]);
+            if (updated == 0)
+                aggregateRepository.save(new DailyAggregate(key, delta[0], delta[1], delta[2]));
+        });
+        aggregateRepository.flush();
+        return ids.size();
+    }
+
+    private static void add(Map<DailyAggregate.Key, long[]> deltas, DailyAggregate.Key key, long credited,
+            long debited, long transactions) {
+        var delta = deltas.computeIfAbsent(key, k -> new long[3]);
+        delta[0] = Money.add(delta[0], credited);
+        delta[1] = Money.add(delta[1], debited);
+        delta[2] += transactions;
+    }
+
+    /**
+     * Movimento da conta no período [from, to], por tipo e, com daily, dia a dia
+     */
+    public AggregateReportDTO report(Account account, LocalDate from, LocalDate to, boolean daily) {
+        if (from.isAfter(to))
+            throw new IllegalArgumentException("Período inválido: from posterior a to");
+        if (daily && ChronoUnit.DAYS.between(from, to) >= maxDailyDays)
+            throw new IllegalArgumentException("Período diário limitado a " + maxDailyDays + " dias");
+
+        var totals = aggregateRepository.totals(account.getId(), from, to);
+        var days = daily ? aggregateRepository.daily(account.getId(), from, to) : null;
+        return new AggregateReportDTO(account.getNumber(), from, to, totals, days);
+    }
+}
@@ -0,0 +1,96 @@
+package br.edu.utfpr.bankapi.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Cache do id das contas, indexado pelo número da conta.
+ *
+ * Guarda apenas o id, nunca o saldo. As contas com o id em cache são lidas pela
+ * chave primária (a validação do depósito e do saque, GET /account/{number} e,
+ * em um único SELECT, as duas contas da transferência), obtendo sempre o saldo
+ * atual; se a conta lida tem outro número, a entrada é removida e a conta é
+ * buscada pelo número. Limitado por quantidade e por tempo de vida.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.account-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class AccountCache implements MeterBinder {
+
+    private final Cache<Long, Long> ids;
+
+    @Autowired
+    public AccountCache(
+            @Value("${bankapi.account-cache.max-size:10000}") int maxSize,
+            @Value("${bankapi.account-cache.ttl-seconds:300}") long ttlSeconds) {
+        this(maxSize, ttlSeconds, Runnable::run);
+    }
+
+    /**
+     * @param executor onde as remoções são processadas (a thread que acessa o
+     *                 cache, por padrão)
+     */
+    AccountCache(int maxSize, long ttlSeconds, Executor executor) {
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(executor)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return id da conta, ou null se não estiver no cache
+     */
+    public Long getId(long number) {
+        return ids.getIfPresent(number);
+    }
+
+    public void put(long number, long id) {
+        ids.put(number, id);
+    }
+
+    public void invalidate(long number) {
+        ids.invalidate(number);
+    }
+
+    public long size() {
+        ids.cleanUp();
+        return ids.estimatedSize();
+    }
+
+    public long hits() {
+        return ids.stats().hitCount();
+    }
+
+    public long misses() {
+        return ids.stats().missCount();
+    }
+
+    public long evictions() {
+        return ids.stats().evictionCount();
+    }
+
+    /**
+     * Publica os contadores do cache (bankapi.account-cache.*)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bankapi.account-cache.hits", this, AccountCache::hits).register(registry);
+        FunctionCounter.builder("bankapi.account-cache.misses", this, AccountCache::misses).register(registry);
+        FunctionCounter.builder("bankapi.account-cache.evictions", this, AccountCache::evictions).register(registry);
+        Gauge.builder("bankapi.account-cache.size", this, AccountCache::size).register(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+
+/**
+ * Estratégia de controle de concorrência sobre as contas.
+ * 
+ * A implementação é escolhida pela propriedade {@code bankapi.concurrency.mode}
+ * (striped, pessimistic ou optimistic).
+ */
+public interface AccountLockStrategy {
+
+    /**
+     * Executa a operação protegendo as contas informadas. A operação deve abrir
+     * a sua própria transação (ex.: método @Transactional de um serviço), para
+     * que o controle envolva a transação inteira.
+     */
+    <T> T execute(AccountOperation<T> operation, long... accountNumbers) throws NotFoundException;
+
+    /**
+     * Indica se as contas devem ser lidas com bloqueio no banco de dados
+     * (SELECT ... FOR UPDATE).
+     */
+    default boolean lockOnRead() {
+        return false;
+    }
+}
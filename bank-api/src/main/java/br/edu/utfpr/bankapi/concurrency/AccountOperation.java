@@ -0,0 +1,11 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+
+/**
+ * Operação executada sob o controle de concorrência das contas envolvidas
+ */
+@FunctionalInterface
+public interface AccountOperation<T> {
+    T run() throws NotFoundException;
+}
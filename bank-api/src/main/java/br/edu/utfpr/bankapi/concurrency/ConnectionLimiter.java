@@ -0,0 +1,100 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Limita as conexões em uso ao mesmo tempo, na frente do pool de conexões.
+ * 
+ * Com virtual threads não há mais o limite de threads do Tomcat: milhares de
+ * requisições podem pedir conexão ao mesmo tempo. O limiter enfileira as
+ * requisições (fila justa, de tamanho limitado) e rejeita de imediato as que
+ * excedem a fila, em vez de deixá-las aguardando o timeout do pool.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.db-limiter.enabled", havingValue = "true")
+public class ConnectionLimiter implements BeanPostProcessor, MeterBinder {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final int maxWaiting;
+    private final long timeoutMillis;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConnectionLimiter(
+            @Value("${bankapi.db-limiter.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${bankapi.db-limiter.max-waiting:1000}") int maxWaiting,
+            @Value("${bankapi.db-limiter.timeout-millis:5000}") long timeoutMillis) {
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.maxWaiting = maxWaiting;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof LimitedDataSource))
+            return new LimitedDataSource(dataSource, this);
+        return bean;
+    }
+
+    void acquire() throws SQLTransientConnectionException {
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new SQLTransientConnectionException("Banco de dados sobrecarregado: fila de conexões cheia");
+        }
+
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.incrementAndGet();
+                throw new SQLTransientConnectionException("Tempo esgotado aguardando conexão");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", ex);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+
+    public int active() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bankapi.db-limiter.waiting", this, ConnectionLimiter::waiting).register(registry);
+        Gauge.builder("bankapi.db-limiter.active", this, ConnectionLimiter::active).register(registry);
+        FunctionCounter.builder("bankapi.db-limiter.rejected", this, ConnectionLimiter::rejected).register(registry);
+    }
+}
@@ -0,0 +1,229 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.AccountSlot;
+import br.edu.utfpr.bankapi.model.Money;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.AccountSlotRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Contas quentes: contas que recebem grande parte dos créditos têm o saldo
+ * dividido em sub-saldos (tb_account_slot). Cada crédito vai para um sub-saldo
+ * escolhido ao acaso, sem bloquear a linha da conta; os débitos continuam na
+ * coluna balance, por um UPDATE condicional que considera a soma dos
+ * sub-saldos. Como os sub-saldos só aumentam fora do redimensionamento, um
+ * débito nunca aprova um valor acima do saldo. O débito bloqueia antes a linha
+ * da conta, como o redimensionamento: assim ele aguarda um redimensionamento em
+ * andamento e soma os sub-saldos já depois dele (no PostgreSQL, um UPDATE que
+ * aguardou o bloqueio rechecaria só a linha da conta, mantendo na subconsulta os
+ * sub-saldos removidos, que seriam contados duas vezes).
+ * 
+ * As operações que envolvem contas quentes seguem o caminho do UPDATE
+ * condicional (ver TransactionService) e dispensam o bloqueio em memória do
+ * modo striped. Lotes e o fechamento do mês alteram essas contas pelas
+ * entidades, protegidos apenas pelo @Version. Não pode ser combinado com o
+ * journal nem com o ledger, que dependem do bloqueio de cada conta.
+ * 
+ * Os números das contas quentes ficam em memória e são relidos do banco a cada
+ * refresh-seconds, para refletir alterações feitas por outras instâncias.
+ * 
+ * A soma dos sub-saldos só é lida para as contas com sub-saldos (withSlots).
+ * Antes de desligar o recurso, volte as contas quentes a 0 sub-saldos: sem ele,
+ * o saldo dos sub-saldos deixa de ser considerado.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.hot-accounts.enabled", havingValue = "true")
+public class HotAccounts {
+
+    private static final Logger log = LoggerFactory.getLogger(HotAccounts.class);
+
+    private record Hot(long id, int slots) {
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountSlotRepository slotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${bankapi.journal.enabled:false}")
+    private boolean journalEnabled;
+
+    @Value("${bankapi.ledger.enabled:false}")
+    private boolean ledgerEnabled;
+
+    @Value("${bankapi.hot-accounts.max-slots:64}")
+    private int maxSlots;
+
+    @Value("${bankapi.hot-accounts.refresh-seconds:30}")
+    private long refreshSeconds;
+
+    // Número da conta -> id e quantidade de sub-saldos
+    private final Map<Long, Hot> hot = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        if (journalEnabled || ledgerEnabled)
+            throw new IllegalStateException(
+                    "bankapi.hot-accounts.enabled não pode ser combinado com bankapi.journal.enabled ou bankapi.ledger.enabled");
+
+        refresh();
+        executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "hot-accounts-refresh"));
+        executor.scheduleWithFixedDelay(this::refreshSafely, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public boolean isHot(long number) {
+        return hot.containsKey(number);
+    }
+
+    public boolean anyHot(long... numbers) {
+        for (long number : numbers)
+            if (hot.containsKey(number))
+                return true;
+        return false;
+    }
+
+    /**
+     * Os números informados, sem as contas quentes
+     */
+    public long[] withoutHot(long... numbers) {
+        if (hot.isEmpty() || !anyHot(numbers))
+            return numbers;
+
+        int count = 0;
+        var result = new long[numbers.length];
+        for (long number : numbers)
+            if (!hot.containsKey(number))
+                result[count++] = number;
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Soma os sub-saldos ao saldo da conta, se ela tiver sub-saldos; as demais
+     * contas não geram consulta
+     */
+    public Account withSlots(Account account) {
+        if (account.getBalanceSlots() > 0)
+            account.setSlotBalance(slotRepository.sumBalance(account.getId()));
+        return account;
+    }
+
+    /**
+     * Credita o valor em um sub-saldo da conta, se ela for quente
+     * 
+     * @return false se a conta não é quente ou o sub-saldo escolhido foi
+     *         removido; o crédito deve então ser feito na coluna balance
+     */
+    public boolean credit(long number, long amount) {
+        var account = hot.get(number);
+        if (account == null)
+            return false;
+
+        int slot = ThreadLocalRandom.current().nextInt(account.slots());
+        return slotRepository.credit(account.id(), slot, amount) > 0;
+    }
+
+    /**
+     * Débito condicional que considera os sub-saldos, após bloquear a linha da
+     * conta. Deve ser chamado dentro de uma transação
+     * 
+     * @return 1 se debitou; 0 se a conta não existe ou não tem saldo
+     */
+    public int debit(long number, long amount) {
+        if (accountRepository.getByNumberForUpdate(number).isEmpty())
+            return 0;
+        return accountRepository.debitWithSlots(number, amount);
+    }
+
+    /**
+     * Altera a quantidade de sub-saldos da conta; 0 volta a conta ao normal. O
+     * saldo dos sub-saldos removidos é somado à coluna balance. Os créditos
+     * concorrentes nesses sub-saldos aguardam o bloqueio e, sem a linha, são
+     * feitos na coluna balance.
+     */
+    public Account resize(long number, int slots) throws NotFoundException {
+        if (slots < 0 || slots > maxSlots)
+            throw new IllegalArgumentException("A quantidade de sub-saldos deve estar entre 0 e " + maxSlots);
+
+        var account = transactionTemplate.execute(status -> {
+            var found = accountRepository.getByNumberForUpdate(number);
+            if (found.isEmpty())
+                return null;
+
+            long id = found.get().getId();
+            int current = found.get().getBalanceSlots();
+
+            long removed = 0;
+            if (slots < current) {
+                for (var slot : slotRepository.findFromSlotForUpdate(id, slots))
+                    removed = Money.add(removed, slot.getBalance());
+                slotRepository.deleteFromSlot(id, slots);
+            }
+            for (int slot = current; slot < slots; slot++)
+                slotRepository.save(new AccountSlot(new AccountSlot.Key(id, slot), 0));
+
+            accountRepository.resizeSlots(number, slots, removed);
+            return withSlots(accountRepository.getByNumber(number).orElseThrow());
+        });
+
+        if (account == null)
+            throw new NotFoundException("Conta " + number + " inexistente");
+
+        if (slots > 0)
+            hot.put(number, new Hot(account.getId(), slots));
+        else
+            hot.remove(number);
+        return account;
+    }
+
+    void refresh() {
+        List<Account> accounts = accountRepository.findByBalanceSlotsGreaterThan(0);
+
+        var current = new HashMap<Long, Hot>();
+        for (var account : accounts)
+            current.put(account.getNumber(), new Hot(account.getId(), account.getBalanceSlots()));
+
+        hot.putAll(current);
+        hot.keySet().retainAll(current.keySet());
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao atualizar as contas quentes", ex);
+        }
+    }
+}
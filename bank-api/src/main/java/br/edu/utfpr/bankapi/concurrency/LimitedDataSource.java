@@ -0,0 +1,72 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que só entrega uma conexão após obter uma permissão do
+ * {@link ConnectionLimiter}; a permissão é devolvida quando a conexão é
+ * fechada (devolvida ao pool).
+ */
+public class LimitedDataSource extends DelegatingDataSource {
+
+    private final ConnectionLimiter limiter;
+
+    public LimitedDataSource(DataSource target, ConnectionLimiter limiter) {
+        super(target);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        limiter.acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            limiter.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        limiter.acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            limiter.release();
+            throw ex;
+        }
+    }
+
+    private Connection limited(Connection connection) {
+        var closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            limiter.release();
+                        }
+                        return null;
+                    }
+
+                    if (method.getName().equals("unwrap") && args[0] == Connection.class)
+                        return connection;
+
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,53 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+
+/**
+ * Não bloqueia as contas: conflitos são detectados pela coluna de versão
+ * (@Version) e a operação é repetida até o limite de tentativas.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.concurrency.mode", havingValue = "optimistic")
+public class OptimisticLockStrategy implements AccountLockStrategy {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockStrategy(
+            @Value("${bankapi.concurrency.max-attempts:5}") int maxAttempts,
+            @Value("${bankapi.concurrency.backoff-millis:5}") long backoffMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    @Override
+    public <T> T execute(AccountOperation<T> operation, long... accountNumbers) throws NotFoundException {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return operation.run();
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts)
+                    throw ex;
+
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0)
+            return;
+
+        try {
+            Thread.sleep(backoffMillis * attempt);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
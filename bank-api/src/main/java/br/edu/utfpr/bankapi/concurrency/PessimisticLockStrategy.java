@@ -0,0 +1,26 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+
+/**
+ * Bloqueia as contas no banco de dados (SELECT ... FOR UPDATE) durante a
+ * transação. Funciona com várias instâncias da aplicação.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.concurrency.mode", havingValue = "pessimistic")
+public class PessimisticLockStrategy implements AccountLockStrategy {
+
+    @Override
+    public <T> T execute(AccountOperation<T> operation, long... accountNumbers) throws NotFoundException {
+        // O bloqueio é feito na leitura das contas, dentro da transação
+        return operation.run();
+    }
+
+    @Override
+    public boolean lockOnRead() {
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gerenciador de locks em faixas (stripes) indexados pelo número da conta.
+ * 
+ * Os locks de várias contas são sempre adquiridos em ordem crescente de faixa,
+ * evitando deadlock entre transferências em sentidos opostos.
+ */
+public class StripedLockManager {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedLockManager(int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++)
+            locks[i] = new ReentrantLock();
+        mask = size - 1;
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+
+    int stripeOf(long accountNumber) {
+        // Espalha números sequenciais entre as faixas
+        long hash = accountNumber * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+    /**
+     * Adquire os locks das contas informadas
+     * 
+     * @return faixas adquiridas, a serem passadas para {@link #unlock(int[])}
+     */
+    public int[] lock(long... accountNumbers) {
+        var stripes = new int[accountNumbers.length];
+        for (int i = 0; i < accountNumbers.length; i++)
+            stripes[i] = stripeOf(accountNumbers[i]);
+
+        Arrays.sort(stripes);
+        int count = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            if (i == 0 || stripes[i] != stripes[i - 1])
+                stripes[count++] = stripes[i];
+        }
+        stripes = Arrays.copyOf(stripes, count);
+
+        for (int i = 0; i < stripes.length; i++)
+            locks[stripes[i]].lock();
+
+        return stripes;
+    }
+
+    public void unlock(int[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; i--)
+            locks[stripes[i]].unlock();
+    }
+}
@@ -0,0 +1,39 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+
+/**
+ * Serializa as operações sobre uma mesma conta dentro do processo.
+ * 
+ * Adequada para uma única instância da aplicação: não há bloqueio no banco.
+ * As contas quentes não são bloqueadas (ver HotAccounts).
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.concurrency.mode", havingValue = "striped", matchIfMissing = true)
+public class StripedLockStrategy implements AccountLockStrategy {
+
+    private final StripedLockManager lockManager;
+
+    // Presente apenas com bankapi.hot-accounts.enabled=true
+    @Autowired(required = false)
+    private HotAccounts hotAccounts;
+
+    public StripedLockStrategy(@Value("${bankapi.concurrency.stripes:1024}") int stripes) {
+        lockManager = new StripedLockManager(stripes);
+    }
+
+    @Override
+    public <T> T execute(AccountOperation<T> operation, long... accountNumbers) throws NotFoundException {
+        var stripes = lockManager.lock(hotAccounts != null ? hotAccounts.withoutHot(accountNumbers) : accountNumbers);
+        try {
+            return operation.run();
+        } finally {
+            lockManager.unlock(stripes);
+        }
+    }
+}
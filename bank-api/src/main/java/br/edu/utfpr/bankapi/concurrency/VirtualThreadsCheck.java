@@ -0,0 +1,26 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Impede a inicialização com spring.threads.virtual.enabled=true em Java
+ * anterior ao 21: o Spring Boot ignora a propriedade nesse caso e a aplicação
+ * rodaria, sem aviso, em platform threads.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsCheck {
+
+    static final int MIN_FEATURE = 21;
+
+    public VirtualThreadsCheck() {
+        check(Runtime.version().feature());
+    }
+
+    static void check(int feature) {
+        if (feature < MIN_FEATURE)
+            throw new IllegalStateException("spring.threads.virtual.enabled=true requer Java " + MIN_FEATURE
+                    + " ou mais novo (em execução: Java " + feature + ")");
+    }
+}
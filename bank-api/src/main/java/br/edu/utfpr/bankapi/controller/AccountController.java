@@ -1,22 +1,41 @@
 package br.edu.utfpr.bankapi.controller;
 
-import java.util.List;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import br.edu.utfpr.bankapi.dto.AccountDTO;
 import br.edu.utfpr.bankapi.exception.NotFoundException;
-import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.service.AccountImportService;
 import br.edu.utfpr.bankapi.service.AccountService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -26,6 +45,12 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private AccountImportService accountImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<Object> create(@RequestBody @Valid AccountDTO dto) {
         try {
@@ -36,6 +61,39 @@ public class AccountController {
         }
     }
 
+    /**
+     * Importação em massa (CSV com cabeçalho ou NDJSON), lida à medida que o
+     * corpo chega. A resposta é escrita também à medida que os blocos são
+     * gravados: {"errors": [linhas rejeitadas], "imported": n, "rejected": n}
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    public void importAccounts(InputStream body, @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletResponse response) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Iterator<AccountImportService.Line> lines;
+        try {
+            lines = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    ? accountImportService.readNdjson(reader)
+                    : accountImportService.readCsv(reader);
+        } catch (IllegalArgumentException ex) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+            return;
+        }
+
+        response.setStatus(HttpStatus.CREATED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        var generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("errors");
+        var result = accountImportService.importAccounts(lines, error -> write(generator, error));
+        generator.writeEndArray();
+        generator.writeNumberField("imported", result.imported());
+        generator.writeNumberField("rejected", result.rejected());
+        generator.writeEndObject();
+        generator.flush();
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Object> update(@PathVariable("id") long id, @RequestBody @Valid AccountDTO dto) {
         try {
@@ -48,9 +106,70 @@ public class AccountController {
         }
     }
 
+    /**
+     * Marca a conta como quente, com o saldo dividido em {@code slots}
+     * sub-saldos que recebem os créditos; com 0, volta a conta ao normal
+     */
+    @PutMapping("/{number}/slots")
+    public ResponseEntity<Object> setSlots(@PathVariable("number") long number, @RequestParam int slots) {
+        try {
+            return ResponseEntity.ok(accountService.setSlots(number, slots));
+        } catch (NotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        }
+    }
+
+    /**
+     * Todas as contas, escritas na resposta à medida que são lidas do banco
+     * (array JSON), com memória constante independentemente do tamanho da tabela
+     */
     @GetMapping
-    public List<Account> getAll() {
-        return accountService.getAll();
+    public void getAll(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        var generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+
+        generator.writeStartArray();
+        accountService.forEach(account -> write(generator, account));
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    /**
+     * Todas as contas em NDJSON (uma conta por linha)
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void getAllNdjson(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        var generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        accountService.forEach(account -> write(generator, account));
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    /**
+     * Página de contas (paginação por chave). O cursor da próxima página é
+     * retornado em {@code nextCursor}.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Object> getPage(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            return ResponseEntity.ok(accountService.getPage(cursor, size));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        }
+    }
+
+    private void write(JsonGenerator generator, Object value) {
+        try {
+            objectMapper.writeValue(generator, value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 
     @GetMapping("/{number}")
@@ -62,4 +181,37 @@ public class AccountController {
                 : ResponseEntity.notFound().build();
     }
 
+    /**
+     * Saldo da conta; com {@code at}, o saldo naquela data (modo ledger)
+     */
+    @GetMapping("/{number}/balance")
+    public ResponseEntity<Object> getBalance(@PathVariable("number") long number,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime at) {
+        try {
+            return ResponseEntity.ok(accountService.getBalance(number, at));
+        } catch (NotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        }
+    }
+
+    /**
+     * Movimento da conta no período [from, to] por tipo de transação e, com
+     * {@code daily=true}, dia a dia (agregados diários)
+     */
+    @GetMapping("/{number}/aggregates")
+    public ResponseEntity<Object> getAggregates(@PathVariable("number") long number,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean daily) {
+        try {
+            return ResponseEntity.ok(accountService.getAggregates(number, from, to, daily));
+        } catch (NotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
+        }
+    }
+
 }
@@ -1,17 +1,54 @@
 package br.edu.utfpr.bankapi.controller;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.edu.utfpr.bankapi.dto.BatchOperationDTO;
 import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.dto.TransactionHistoryDTO;
 import br.edu.utfpr.bankapi.dto.TransferDTO;
 import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.idempotency.IdempotencyStore;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.service.AccountService;
+import br.edu.utfpr.bankapi.service.BatchTransactionService;
+import br.edu.utfpr.bankapi.service.TransactionHistoryService;
 import br.edu.utfpr.bankapi.service.TransactionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -21,33 +58,230 @@ public class TransactionController {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private BatchTransactionService batchTransactionService;
+
+    @Autowired
+    private TransactionHistoryService transactionHistoryService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private IdempotencyStore idempotencyStore;
+
     @PostMapping("/transfer")
-    public ResponseEntity<Object> transfer(@RequestBody @Valid TransferDTO dto) {
-        try {
-            var res = transactionService.transfer(dto);
-            return ResponseEntity.status(HttpStatus.CREATED).body(res);
-        } catch (Exception exception) {
-            return ResponseEntity.badRequest().body(exception.getMessage());
-        }
+    public ResponseEntity<Object> transfer(@RequestBody @Valid TransferDTO dto,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotent(idempotencyKey, "transfer", dto, () -> {
+            try {
+                var res = transactionService.transfer(dto);
+                return ResponseEntity.status(HttpStatus.CREATED).body(res);
+            } catch (Exception exception) {
+                return ResponseEntity.badRequest().body(exception.getMessage());
+            }
+        });
     }
 
     @PostMapping("/deposit")
-    public ResponseEntity<Object> deposit(@RequestBody @Valid DepositDTO dto) {
+    public ResponseEntity<Object> deposit(@RequestBody @Valid DepositDTO dto,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotent(idempotencyKey, "deposit", dto, () -> {
+            try {
+                var res = transactionService.deposit(dto);
+                return ResponseEntity.status(HttpStatus.CREATED).body(res);
+            } catch (Exception exception) {
+                return ResponseEntity.badRequest().body(exception.getMessage());
+            }
+        });
+    }
+
+    @PostMapping("/withdraw")
+    public ResponseEntity<Object> withdraw(@RequestBody @Valid WithdrawDTO dto,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotent(idempotencyKey, "withdraw", dto, () -> {
+            try {
+                var res = transactionService.withdraw(dto);
+                return ResponseEntity.status(HttpStatus.CREATED).body(res);
+            } catch (Exception exception) {
+                return ResponseEntity.badRequest().body(exception.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Extrato da conta, da transação mais recente para a mais antiga
+     */
+    @GetMapping("/history/{number}")
+    public ResponseEntity<Object> history(@PathVariable("number") long number,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
         try {
-            var res = transactionService.deposit(dto);
-            return ResponseEntity.status(HttpStatus.CREATED).body(res);
-        } catch (Exception exception) {
-            return ResponseEntity.badRequest().body(exception.getMessage());
+            return ResponseEntity.ok(transactionHistoryService.getHistory(number, from, to, type, cursor, size));
+        } catch (NotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
         }
     }
 
-    @PostMapping("/withdraw")
-    public ResponseEntity<Object> withdraw(@RequestBody @Valid WithdrawDTO dto) {
+    /**
+     * Extrato completo da conta no período [from, to), da transação mais antiga
+     * para a mais recente, em CSV ou NDJSON. As linhas são escritas na resposta
+     * à medida que chegam do cursor do banco, com memória constante
+     * independentemente do tamanho do extrato; o cabeçalho é enviado antes da
+     * consulta. Com Accept-Encoding: gzip, a resposta é comprimida.
+     */
+    @GetMapping("/statement/{number}")
+    public void statement(@PathVariable("number") long number,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var account = accountService.getByNumber(number);
+        if (account.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "Conta " + number + " inexistente");
+            return;
+        }
+
+        boolean csv = format.equalsIgnoreCase("csv");
+        if (!csv && !format.equalsIgnoreCase("ndjson")) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Formato inválido: use csv ou ndjson");
+            return;
+        }
+
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"statement-" + number + (csv ? ".csv" : ".ndjson") + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        var encoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != null && encoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            // syncFlush: cada flush envia o que já foi comprimido
+            out = new GZIPOutputStream(out, 8192, true);
+        }
+
+        long accountId = account.get().getId();
+        if (csv)
+            writeCsv(accountId, from, to, out);
+        else
+            writeNdjson(accountId, from, to, out);
+        out.close();
+    }
+
+    private void writeCsv(long accountId, LocalDateTime from, LocalDateTime to, OutputStream out)
+            throws IOException {
+        var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write("id,type,amount,dateTime,sourceAccountNumber,receiverAccountNumber\n");
+        writer.flush();
+
+        transactionHistoryService.forEachInStatement(accountId, from, to, item -> writeCsv(writer, item));
+        writer.flush();
+    }
+
+    private static void writeCsv(Writer writer, TransactionHistoryDTO item) {
         try {
-            var res = transactionService.withdraw(dto);
-            return ResponseEntity.status(HttpStatus.CREATED).body(res);
-        } catch (Exception exception) {
-            return ResponseEntity.badRequest().body(exception.getMessage());
+            writer.write(Long.toString(item.id()));
+            writer.write(',');
+            writer.write(item.type().name());
+            writer.write(',');
+            writer.write(BigDecimal.valueOf(item.amount(), 2).toPlainString());
+            writer.write(',');
+            writer.write(item.dateTime().toString());
+            writer.write(',');
+            if (item.sourceAccountNumber() != null)
+                writer.write(item.sourceAccountNumber().toString());
+            writer.write(',');
+            if (item.receiverAccountNumber() != null)
+                writer.write(item.receiverAccountNumber().toString());
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
         }
     }
+
+    private void writeNdjson(long accountId, LocalDateTime from, LocalDateTime to, OutputStream out)
+            throws IOException {
+        var generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        generator.flush();
+
+        // Sem flush a cada linha: o buffer da resposta é enviado quando enche
+        var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        transactionHistoryService.forEachInStatement(accountId, from, to, item -> {
+            try {
+                writer.writeValue(generator, item);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    /**
+     * Lote em JSON: um resultado por operação, na ordem do lote. Um bloco que
+     * não pôde ser gravado tem as suas operações rejeitadas, sem afetar os
+     * blocos já gravados
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Object> batch(@RequestBody List<BatchOperationDTO> operations,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotent(idempotencyKey, "batch", operations, () -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(batchTransactionService.process(operations)));
+    }
+
+    /**
+     * Com o header Idempotency-Key, uma requisição repetida recebe a resposta
+     * original sem executar a operação novamente
+     */
+    private ResponseEntity<Object> idempotent(String key, String operation, Object request,
+            Supplier<ResponseEntity<Object>> handler) {
+        if (key == null || idempotencyStore == null)
+            return handler.get();
+        return idempotencyStore.execute(key, operation, request, handler);
+    }
+
+    /**
+     * Lote em NDJSON (uma operação por linha): as operações são lidas e os
+     * resultados escritos à medida que cada bloco é gravado. Uma linha inválida
+     * recebe um resultado de erro, sem interromper o lote.
+     * 
+     * Não aceita Idempotency-Key (400): os blocos são gravados antes do fim do
+     * corpo, e a resposta não é guardada. Para repetir um lote com segurança,
+     * use o lote em JSON
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void batchStream(InputStream body,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            HttpServletResponse response) throws IOException {
+        if (idempotencyKey != null) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(),
+                    IdempotencyStore.HEADER + " não é aceita no lote em NDJSON; use o lote em JSON");
+            return;
+        }
+
+        response.setStatus(HttpStatus.CREATED.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        var out = response.getOutputStream();
+        batchTransactionService.process(batchTransactionService.readNdjson(reader), result -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        out.flush();
+    }
 }
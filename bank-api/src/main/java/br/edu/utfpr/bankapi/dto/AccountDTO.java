@@ -1,8 +1,12 @@
 package br.edu.utfpr.bankapi.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
-public record AccountDTO(@NotBlank String name, @NotNull Long number, double balance, @Min(0) double specialLimit) {
+public record AccountDTO(@NotBlank String name, @NotNull Long number,
+        @JsonDeserialize(using = MoneyDeserializer.class) long balance,
+        @JsonDeserialize(using = MoneyDeserializer.class) @Min(0) long specialLimit) {
 }
@@ -0,0 +1,8 @@
+package br.edu.utfpr.bankapi.dto;
+
+/**
+ * Linha rejeitada na importação de contas (linhas numeradas a partir de 1,
+ * contando o cabeçalho do CSV e as linhas em branco)
+ */
+public record AccountImportErrorDTO(long line, Long number, String error) {
+}
@@ -0,0 +1,7 @@
+package br.edu.utfpr.bankapi.dto;
+
+/**
+ * Totais da importação de contas
+ */
+public record AccountImportResultDTO(long imported, long rejected) {
+}
@@ -0,0 +1,12 @@
+package br.edu.utfpr.bankapi.dto;
+
+import java.util.List;
+
+import br.edu.utfpr.bankapi.model.Account;
+
+/**
+ * Página de contas. O cursor deve ser enviado na próxima requisição e é nulo na
+ * última página.
+ */
+public record AccountPageDTO(List<Account> items, String nextCursor) {
+}
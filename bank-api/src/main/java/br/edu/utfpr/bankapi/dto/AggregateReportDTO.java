@@ -0,0 +1,15 @@
+package br.edu.utfpr.bankapi.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Movimento da conta no período [from, to], por tipo de transação e,
+ * opcionalmente, dia a dia
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AggregateReportDTO(long number, LocalDate from, LocalDate to, List<AggregateTotalDTO> totals,
+        List<AggregateTotalDTO> days) {
+}
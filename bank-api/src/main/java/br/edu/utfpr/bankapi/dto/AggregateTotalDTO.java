@@ -0,0 +1,23 @@
+package br.edu.utfpr.bankapi.dto;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+/**
+ * Valores que entraram e saíram da conta e quantidade de transações de um tipo,
+ * em um período ou (com day) em um dia
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AggregateTotalDTO(LocalDate day, TransactionType type,
+        @JsonSerialize(using = MoneySerializer.class) long credited,
+        @JsonSerialize(using = MoneySerializer.class) long debited,
+        long transactions) {
+
+    public AggregateTotalDTO(TransactionType type, long credited, long debited, long transactions) {
+        this(null, type, credited, debited, transactions);
+    }
+}
@@ -0,0 +1,12 @@
+package br.edu.utfpr.bankapi.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Saldo de uma conta em uma data
+ */
+public record BalanceDTO(long number, @JsonSerialize(using = MoneySerializer.class) long balance,
+        LocalDateTime at) {
+}
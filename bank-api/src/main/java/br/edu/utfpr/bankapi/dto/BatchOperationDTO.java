@@ -0,0 +1,12 @@
+package br.edu.utfpr.bankapi.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+/**
+ * Operação de um lote: transferência, depósito ou saque
+ */
+public record BatchOperationDTO(TransactionType type, Long sourceAccountNumber, Long receiverAccountNumber,
+        @JsonDeserialize(using = MoneyDeserializer.class) long amount) {
+}
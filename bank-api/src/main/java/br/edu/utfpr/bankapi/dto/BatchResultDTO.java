@@ -0,0 +1,15 @@
+package br.edu.utfpr.bankapi.dto;
+
+/**
+ * Resultado de uma operação do lote, identificada pela sua posição
+ */
+public record BatchResultDTO(long index, boolean success, Long transactionId, String error) {
+
+    public static BatchResultDTO ok(long index, long transactionId) {
+        return new BatchResultDTO(index, true, transactionId, null);
+    }
+
+    public static BatchResultDTO rejected(long index, String error) {
+        return new BatchResultDTO(index, false, null, error);
+    }
+}
@@ -1,4 +1,6 @@
 package br.edu.utfpr.bankapi.dto;
 
-public record DepositDTO(long receiverAccountNumber, double amount) {
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+public record DepositDTO(long receiverAccountNumber, @JsonDeserialize(using = MoneyDeserializer.class) long amount) {
 }
@@ -0,0 +1,36 @@
+package br.edu.utfpr.bankapi.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import br.edu.utfpr.bankapi.model.Money;
+
+/**
+ * Lê um valor em reais (ex.: 145.34) e o converte para centavos
+ */
+public class MoneyDeserializer extends StdDeserializer<Long> {
+
+    public MoneyDeserializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT)
+            return Math.multiplyExact(parser.getLongValue(), Money.CENTS_PER_UNIT);
+
+        if (parser.currentToken() == JsonToken.VALUE_STRING)
+            return Money.ofUnits(Double.parseDouble(parser.getText().trim()));
+
+        return Money.ofUnits(parser.getDoubleValue());
+    }
+
+    @Override
+    public Long getNullValue(DeserializationContext context) {
+        return 0L;
+    }
+}
@@ -0,0 +1,24 @@
+package br.edu.utfpr.bankapi.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import br.edu.utfpr.bankapi.model.Money;
+
+/**
+ * Escreve um valor em centavos como reais (ex.: 14534 -> 145.34)
+ */
+public class MoneySerializer extends StdSerializer<Long> {
+
+    public MoneySerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long cents, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeNumber(Money.toUnits(cents));
+    }
+}
@@ -0,0 +1,15 @@
+package br.edu.utfpr.bankapi.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+/**
+ * Item do extrato de uma conta (projeção, sem carregar as entidades)
+ */
+public record TransactionHistoryDTO(long id, TransactionType type,
+        @JsonSerialize(using = MoneySerializer.class) long amount, LocalDateTime dateTime,
+        Long sourceAccountNumber, Long receiverAccountNumber) {
+}
@@ -0,0 +1,10 @@
+package br.edu.utfpr.bankapi.dto;
+
+import java.util.List;
+
+/**
+ * Página do extrato, da transação mais recente para a mais antiga. O cursor é
+ * nulo na última página.
+ */
+public record TransactionHistoryPageDTO(List<TransactionHistoryDTO> items, String nextCursor) {
+}
@@ -1,4 +1,7 @@
 package br.edu.utfpr.bankapi.dto;
 
-public record TransferDTO(long sourceAccountNumber, long receiverAccountNumber, double amount) {
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+public record TransferDTO(long sourceAccountNumber, long receiverAccountNumber,
+        @JsonDeserialize(using = MoneyDeserializer.class) long amount) {
 }
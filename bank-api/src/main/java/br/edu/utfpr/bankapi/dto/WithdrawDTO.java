@@ -1,3 +1,5 @@
 package br.edu.utfpr.bankapi.dto;
 
-public record WithdrawDTO(long sourceAccountNumber, double amount) {}
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+public record WithdrawDTO(long sourceAccountNumber, @JsonDeserialize(using = MoneyDeserializer.class) long amount) {}
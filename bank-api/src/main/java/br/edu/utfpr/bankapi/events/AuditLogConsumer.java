@@ -0,0 +1,62 @@
+package br.edu.utfpr.bankapi.events;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Trilha de auditoria: acrescenta cada transação confirmada, uma por linha em
+ * JSON, ao arquivo bankapi.events.audit.file. A escrita é descarregada uma vez
+ * por lote.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.events.audit.enabled", havingValue = "true")
+public class AuditLogConsumer implements TransactionEventConsumer {
+
+    private final BufferedWriter writer;
+
+    public AuditLogConsumer(@Value("${bankapi.events.audit.file:audit/transactions.ndjson}") Path file)
+            throws IOException {
+        if (file.getParent() != null)
+            Files.createDirectories(file.getParent());
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public String name() {
+        return "audit";
+    }
+
+    @Override
+    public void onEvents(List<TransactionEvent> events) throws IOException {
+        var line = new StringBuilder(160);
+        for (var event : events) {
+            line.setLength(0);
+            line.append("{\"id\":").append(event.id())
+                    .append(",\"type\":\"").append(event.type())
+                    .append("\",\"sourceAccountNumber\":").append(event.sourceAccountNumber())
+                    .append(",\"receiverAccountNumber\":").append(event.receiverAccountNumber())
+                    .append(",\"amount\":").append(event.amount())
+                    .append(",\"dateTime\":\"").append(event.dateTime())
+                    .append("\"}\n");
+            writer.append(line);
+        }
+        writer.flush();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,85 @@
+package br.edu.utfpr.bankapi.events;
+
+import java.time.LocalDateTime;
+
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+/**
+ * Transação confirmada, publicada no {@link TransactionEventBus}.
+ * 
+ * As instâncias são posições pré-alocadas do ring buffer, reutilizadas a cada
+ * volta: os consumidores não devem guardar referências a elas após
+ * {@link TransactionEventConsumer#onEvents}.
+ */
+public final class TransactionEvent {
+
+    private long sequence;
+    private long id;
+    private TransactionType type;
+    // Número e id das contas (0 quando não houver)
+    private long sourceAccountNumber;
+    private long receiverAccountNumber;
+    private long sourceAccountId;
+    private long receiverAccountId;
+    // Valor em centavos (ver Money)
+    private long amount;
+    private LocalDateTime dateTime;
+
+    void set(long sequence, Transaction transaction) {
+        this.sequence = sequence;
+        this.id = transaction.getId();
+        this.type = transaction.getType();
+        var source = transaction.getSourceAccount();
+        var receiver = transaction.getReceiverAccount();
+        this.sourceAccountNumber = source != null ? source.getNumber() : 0;
+        this.receiverAccountNumber = receiver != null ? receiver.getNumber() : 0;
+        this.sourceAccountId = source != null ? source.getId() : 0;
+        this.receiverAccountId = receiver != null ? receiver.getId() : 0;
+        this.amount = transaction.getAmount();
+        this.dateTime = transaction.getDateTime();
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public TransactionType type() {
+        return type;
+    }
+
+    public long sourceAccountNumber() {
+        return sourceAccountNumber;
+    }
+
+    public long receiverAccountNumber() {
+        return receiverAccountNumber;
+    }
+
+    public long sourceAccountId() {
+        return sourceAccountId;
+    }
+
+    public long receiverAccountId() {
+        return receiverAccountId;
+    }
+
+    public long amount() {
+        return amount;
+    }
+
+    public LocalDateTime dateTime() {
+        return dateTime;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionEvent(sequence=" + sequence + ", id=" + id + ", type=" + type
+                + ", sourceAccountNumber=" + sourceAccountNumber + ", receiverAccountNumber=" + receiverAccountNumber
+                + ", amount=" + amount + ", dateTime=" + dateTime + ")";
+    }
+}
@@ -0,0 +1,270 @@
+package br.edu.utfpr.bankapi.events;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.edu.utfpr.bankapi.model.Transaction;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Barramento em memória dos eventos de transação, fora da thread da
+ * requisição.
+ * 
+ * Os eventos ficam em um ring buffer pré-alocado (buffer-size posições,
+ * potência de dois). Cada {@link TransactionEventConsumer} tem sua thread e sua
+ * posição de leitura, e recebe lotes de até max-batch-size eventos; uma posição
+ * só é reutilizada depois que todos os consumidores passaram por ela.
+ * 
+ * Com o buffer cheio (consumidor lento), a política overflow define o que
+ * acontece: block aguarda até block-timeout-millis e então descarta; drop
+ * descarta de imediato. A operação já foi confirmada, portanto descartar afeta
+ * apenas os efeitos secundários, contados em bankapi.events.dropped.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.events.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionEventBus implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionEventBus.class);
+
+    public enum Overflow {
+        BLOCK, DROP
+    }
+
+    private final TransactionEvent[] ring;
+    private final int mask;
+    private final int maxBatchSize;
+    private final Overflow overflow;
+    private final long blockTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    // Próxima sequência a publicar (protegida por lock) e última publicada
+    private long next;
+    private volatile long published = -1;
+    private volatile boolean running;
+
+    private final List<Worker> workers = new ArrayList<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public TransactionEventBus(
+            ObjectProvider<TransactionEventConsumer> consumers,
+            @Value("${bankapi.events.buffer-size:8192}") int bufferSize,
+            @Value("${bankapi.events.max-batch-size:256}") int maxBatchSize,
+            @Value("${bankapi.events.overflow:block}") String overflow,
+            @Value("${bankapi.events.block-timeout-millis:100}") long blockTimeoutMillis) {
+        int capacity = Integer.highestOneBit(Math.max(1, bufferSize - 1)) << 1;
+        this.ring = new TransactionEvent[capacity];
+        for (int i = 0; i < capacity; i++)
+            ring[i] = new TransactionEvent();
+        this.mask = capacity - 1;
+        this.maxBatchSize = maxBatchSize;
+        this.overflow = Overflow.valueOf(overflow.toUpperCase());
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+
+        for (var consumer : consumers.orderedStream().toList())
+            workers.add(new Worker(consumer));
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (var worker : workers)
+            worker.thread.start();
+    }
+
+    /**
+     * Encerra os consumidores após entregar os eventos já publicados
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (var worker : workers)
+            worker.thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    /**
+     * Publica a transação quando a transação do banco em andamento for
+     * confirmada (de imediato, se não houver uma)
+     */
+    public void publishAfterCommit(Transaction transaction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(transaction);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(transaction);
+            }
+        });
+    }
+
+    /**
+     * @return false se o evento foi descartado (buffer cheio)
+     */
+    public boolean publish(Transaction transaction) {
+        if (workers.isEmpty())
+            return true;
+
+        lock.lock();
+        try {
+            long nanos = blockTimeoutNanos;
+            while (next - minSequence() >= ring.length) {
+                if (overflow == Overflow.DROP || nanos <= 0) {
+                    dropped.incrementAndGet();
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            ring[(int) (next & mask)].set(next, transaction);
+            published = next++;
+            notEmpty.signalAll();
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Posição do consumidor mais atrasado (próxima a ler)
+    private long minSequence() {
+        long min = Long.MAX_VALUE;
+        for (var worker : workers)
+            min = Math.min(min, worker.sequence + 1);
+        return min;
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Eventos publicados e ainda não processados pelo consumidor mais atrasado
+     */
+    public long lag() {
+        return published + 1 - minSequence();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bankapi.events.dropped", this, TransactionEventBus::dropped).register(registry);
+        for (var worker : workers)
+            Gauge.builder("bankapi.events.lag", worker, w -> published - w.sequence)
+                    .tag("consumer", worker.consumer.name())
+                    .register(registry);
+    }
+
+    private class Worker extends AbstractList<TransactionEvent> implements Runnable {
+
+        private final TransactionEventConsumer consumer;
+        private final Thread thread;
+
+        // Última sequência processada
+        private volatile long sequence = -1;
+
+        // Lote atual, visto como lista sobre o ring buffer
+        private long first;
+        private int size;
+
+        Worker(TransactionEventConsumer consumer) {
+            this.consumer = consumer;
+            this.thread = new Thread(this, "events-" + consumer.name());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public TransactionEvent get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException(index);
+            return ring[(int) ((first + index) & mask)];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                long available = published;
+                if (available <= sequence) {
+                    if (!running || !await())
+                        return;
+                    continue;
+                }
+
+                first = sequence + 1;
+                size = (int) Math.min(available - sequence, maxBatchSize);
+                try {
+                    consumer.onEvents(this);
+                } catch (Exception ex) {
+                    log.warn("Consumidor {} falhou em {} eventos", consumer.name(), size, ex);
+                }
+                sequence = first + size - 1;
+
+                lock.lock();
+                try {
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        /**
+         * @return false se o barramento foi encerrado sem novos eventos
+         */
+        private boolean await() {
+            lock.lock();
+            try {
+                while (published <= sequence) {
+                    if (!running)
+                        return false;
+                    notEmpty.await();
+                }
+                return true;
+            } catch (InterruptedException ex) {
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
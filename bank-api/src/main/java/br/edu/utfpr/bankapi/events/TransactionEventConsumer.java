@@ -0,0 +1,21 @@
+package br.edu.utfpr.bankapi.events;
+
+import java.util.List;
+
+/**
+ * Consumidor dos eventos de transação. Cada bean consumidor roda em uma thread
+ * própria, recebendo os eventos em ordem e em lotes.
+ */
+public interface TransactionEventConsumer {
+
+    /**
+     * Nome do consumidor (thread e métricas)
+     */
+    String name();
+
+    /**
+     * Processa um lote de eventos. A lista e os eventos só são válidos durante a
+     * chamada; uma exceção descarta o lote para este consumidor.
+     */
+    void onEvents(List<TransactionEvent> events) throws Exception;
+}
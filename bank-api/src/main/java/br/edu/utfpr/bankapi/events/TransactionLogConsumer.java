@@ -0,0 +1,32 @@
+package br.edu.utfpr.bankapi.events;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra as transações confirmadas no log (nível DEBUG), no lugar da antiga
+ * impressão no console feita na thread da requisição
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.events.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionLogConsumer implements TransactionEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionLogConsumer.class);
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void onEvents(List<TransactionEvent> events) {
+        if (!log.isDebugEnabled())
+            return;
+        for (var event : events)
+            log.debug("{}", event);
+    }
+}
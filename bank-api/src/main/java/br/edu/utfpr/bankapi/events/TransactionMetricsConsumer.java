@@ -0,0 +1,42 @@
+package br.edu.utfpr.bankapi.events;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.edu.utfpr.bankapi.model.TransactionType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Valores movimentados por tipo de transação (bankapi.transactions.amount, em
+ * centavos)
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.events.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionMetricsConsumer implements TransactionEventConsumer {
+
+    private final Map<TransactionType, DistributionSummary> amounts = new EnumMap<>(TransactionType.class);
+
+    public TransactionMetricsConsumer(MeterRegistry registry) {
+        for (var type : TransactionType.values())
+            amounts.put(type, DistributionSummary.builder("bankapi.transactions.amount")
+                    .baseUnit("cents")
+                    .tag("type", type.name())
+                    .register(registry));
+    }
+
+    @Override
+    public String name() {
+        return "metrics";
+    }
+
+    @Override
+    public void onEvents(List<TransactionEvent> events) {
+        for (var event : events)
+            amounts.get(event.type()).record(event.amount());
+    }
+}
@@ -0,0 +1,294 @@
+package br.edu.utfpr.bankapi.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.utfpr.bankapi.model.IdempotencyRecord;
+import br.edu.utfpr.bankapi.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Respostas das requisições com o header Idempotency-Key.
+ * 
+ * A repetição de uma requisição (mesma chave, mesma operação e mesmo corpo)
+ * recebe a resposta original sem executar a operação de novo; repetições
+ * concorrentes aguardam a execução em andamento. A mesma chave com outra
+ * requisição é rejeitada (422).
+ * 
+ * Só as respostas de sucesso são guardadas: uma operação que falhou não alterou
+ * nada e pode ser executada novamente. As chaves ficam em memória, limitadas
+ * por quantidade e por tempo de vida (as chaves em execução só são removidas
+ * após a resposta); com bankapi.idempotency.persistent=true
+ * também são gravadas no banco, logo após a operação (uma queda entre a
+ * operação e a gravação da chave permite uma nova execução).
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyStore implements MeterBinder {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private record Entry(String fingerprint, CompletableFuture<ResponseEntity<Object>> response, long expiresAt) {
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    private final int maxSize;
+    private final long ttlSeconds;
+    private final boolean persistent;
+    private final long purgeIntervalSeconds;
+
+    // Ordem de inclusão, que é também a ordem de expiração
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    private final AtomicLong replays = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private ScheduledExecutorService purger;
+
+    public IdempotencyStore(
+            @Value("${bankapi.idempotency.max-size:100000}") int maxSize,
+            @Value("${bankapi.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${bankapi.idempotency.persistent:false}") boolean persistent,
+            @Value("${bankapi.idempotency.purge-interval-seconds:3600}") long purgeIntervalSeconds) {
+        this.maxSize = maxSize;
+        this.ttlSeconds = ttlSeconds;
+        this.persistent = persistent;
+        this.purgeIntervalSeconds = purgeIntervalSeconds;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!persistent)
+            return;
+
+        purger = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "idempotency-purger"));
+        purger.scheduleWithFixedDelay(this::purgePersisted, purgeIntervalSeconds, purgeIntervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (purger != null)
+            purger.shutdownNow();
+    }
+
+    /**
+     * Executa a requisição uma única vez por chave
+     * 
+     * @param operation nome da operação (endpoint)
+     * @param request   corpo da requisição, comparado com o da requisição
+     *                  original
+     */
+    public ResponseEntity<Object> execute(String key, String operation, Object request,
+            Supplier<ResponseEntity<Object>> handler) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH)
+            return ResponseEntity.badRequest().body("Idempotency-Key inválida");
+
+        var fingerprint = fingerprint(operation, request);
+        var future = new CompletableFuture<ResponseEntity<Object>>();
+        Entry existing;
+
+        synchronized (this) {
+            purgeExpired();
+            existing = entries.get(key);
+            if (existing == null) {
+                entries.put(key, new Entry(fingerprint, future, System.nanoTime() + ttlSeconds * 1_000_000_000));
+                evictCompleted();
+            }
+        }
+
+        if (existing != null)
+            return replay(existing, fingerprint);
+
+        ResponseEntity<Object> response;
+        try {
+            response = persistent ? findPersisted(key, fingerprint) : null;
+            if (response == null) {
+                response = handler.get();
+                if (persistent && response.getStatusCode().is2xxSuccessful())
+                    persist(key, fingerprint, response);
+            }
+        } catch (RuntimeException ex) {
+            remove(key, future);
+            future.completeExceptionally(ex);
+            throw ex;
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful())
+            remove(key, future);
+        future.complete(response);
+        return response;
+    }
+
+    private ResponseEntity<Object> replay(Entry entry, String fingerprint) {
+        if (!entry.fingerprint().equals(fingerprint))
+            return conflict();
+
+        ResponseEntity<Object> original;
+        try {
+            original = entry.response().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw ex;
+        }
+
+        replays.incrementAndGet();
+        return ResponseEntity.status(original.getStatusCode())
+                .headers(original.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(original.getBody());
+    }
+
+    private ResponseEntity<Object> conflict() {
+        conflicts.incrementAndGet();
+        return ResponseEntity.unprocessableEntity().body("Idempotency-Key já utilizada em outra requisição");
+    }
+
+    private ResponseEntity<Object> findPersisted(String key, String fingerprint) {
+        var record = repository.findById(key)
+                .filter(r -> r.getCreatedAt().isAfter(LocalDateTime.now().minusSeconds(ttlSeconds)));
+        if (record.isEmpty())
+            return null;
+        if (!record.get().getFingerprint().equals(fingerprint))
+            return conflict();
+
+        replays.incrementAndGet();
+        return ResponseEntity.status(record.get().getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(REPLAYED_HEADER, "true")
+                .body(record.get().getBody());
+    }
+
+    private void persist(String key, String fingerprint, ResponseEntity<Object> response) {
+        try {
+            repository.save(new IdempotencyRecord(key, fingerprint, response.getStatusCode().value(),
+                    objectMapper.writeValueAsString(response.getBody()), LocalDateTime.now()));
+        } catch (JsonProcessingException | DataAccessException ex) {
+            // A operação já foi concluída: a falha afeta apenas as repetições
+            log.warn("Não foi possível gravar a Idempotency-Key {}", key, ex);
+        }
+    }
+
+    private synchronized void remove(String key, CompletableFuture<ResponseEntity<Object>> future) {
+        var entry = entries.get(key);
+        if (entry != null && entry.response() == future)
+            entries.remove(key);
+    }
+
+    /**
+     * Remove as chaves expiradas. As chaves em execução são mantidas até a
+     * resposta, para que uma repetição aguarde a execução em andamento
+     */
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        var it = entries.values().iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            if (entry.expiresAt() - now >= 0)
+                break;
+            if (entry.response().isDone()) {
+                it.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Acima de max-size, remove as chaves mais antigas já respondidas. As
+     * chaves em execução não são removidas: a quantidade pode passar de
+     * max-size em até o número de requisições em andamento
+     */
+    private void evictCompleted() {
+        var it = entries.values().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            if (it.next().response().isDone()) {
+                it.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    void purgePersisted() {
+        try {
+            repository.deleteCreatedBefore(LocalDateTime.now().minusSeconds(ttlSeconds));
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao remover Idempotency-Keys expiradas", ex);
+        }
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return operation + ":" + HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long replays() {
+        return replays.get();
+    }
+
+    public long conflicts() {
+        return conflicts.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Publica os contadores das chaves (bankapi.idempotency.*)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bankapi.idempotency.replays", this, IdempotencyStore::replays).register(registry);
+        FunctionCounter.builder("bankapi.idempotency.conflicts", this, IdempotencyStore::conflicts).register(registry);
+        FunctionCounter.builder("bankapi.idempotency.evictions", this, IdempotencyStore::evictions).register(registry);
+        Gauge.builder("bankapi.idempotency.size", this, IdempotencyStore::size).register(registry);
+    }
+}
@@ -0,0 +1,199 @@
+package br.edu.utfpr.bankapi.journal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.aggregates.DailyAggregates;
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.JournalCheckpoint;
+import br.edu.utfpr.bankapi.model.Money;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.JournalCheckpointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Grava no banco, em segundo plano e em lotes, as operações do journal.
+ * 
+ * Cada lote lido do journal é gravado em blocos consecutivos de operações que
+ * envolvem no máximo lock-batch-size contas: cada bloco bloqueia apenas as suas
+ * contas e atualiza os saldos, inclui as transações e avança o checkpoint na
+ * mesma transação do banco. Assim as requisições aguardam no máximo o commit de
+ * um bloco, e não do lote inteiro. As transações são incluídas com o id reservado no
+ * journal (JournalEntry.transactionId), e não com um novo id do gerador.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.journal.enabled", havingValue = "true")
+public class JournalDrainer {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalDrainer.class);
+
+    @Autowired
+    private TransactionJournal journal;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JournalCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private AccountLockStrategy accountLockStrategy;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Presente apenas com bankapi.aggregates.enabled=true
+    @Autowired(required = false)
+    private DailyAggregates dailyAggregates;
+
+    @Value("${bankapi.journal.drain-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${bankapi.journal.lock-batch-size:50}")
+    private int lockBatchSize;
+
+    @Value("${bankapi.journal.drain-interval-millis:50}")
+    private long intervalMillis;
+
+    private ScheduledExecutorService executor;
+
+    // Restante do lote lido do journal cuja gravação falhou, repetido na próxima
+    // execução
+    private List<JournalEntry> retained = List.of();
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "journal-drainer"));
+        executor.scheduleWithFixedDelay(this::drainSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        drainSafely();
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (Exception ex) {
+            // As operações permanecem no journal e serão gravadas na próxima execução
+            log.error("Falha ao gravar o journal no banco de dados", ex);
+        }
+    }
+
+    /**
+     * Grava todas as operações pendentes do journal
+     */
+    public synchronized void drain() throws NotFoundException {
+        if (retained.isEmpty())
+            retained = journal.poll(batchSize);
+
+        while (!retained.isEmpty()) {
+            var numbers = new TreeSet<Long>();
+            int size = block(retained, numbers);
+            write(retained.subList(0, size), numbers);
+            retained = size < retained.size() ? List.copyOf(retained.subList(size, retained.size()))
+                    : journal.poll(batchSize);
+        }
+    }
+
+    /**
+     * Operações iniciais do lote que envolvem no máximo lock-batch-size contas
+     * (ao menos uma operação, que envolve até duas contas)
+     * 
+     * @param numbers recebe os números das contas do bloco
+     * @return quantidade de operações do bloco
+     */
+    private int block(List<JournalEntry> batch, TreeSet<Long> numbers) {
+        int size = 0;
+        for (var entry : batch) {
+            var source = entry.sourceAccountNumber();
+            var receiver = entry.receiverAccountNumber();
+            int added = (source != null && !numbers.contains(source) ? 1 : 0)
+                    + (receiver != null && !receiver.equals(source) && !numbers.contains(receiver) ? 1 : 0);
+            if (size > 0 && numbers.size() + added > lockBatchSize)
+                break;
+
+            if (source != null)
+                numbers.add(source);
+            if (receiver != null)
+                numbers.add(receiver);
+            size++;
+        }
+        return size;
+    }
+
+    private void write(List<JournalEntry> batch, TreeSet<Long> numbers) throws NotFoundException {
+        accountLockStrategy.execute(() -> {
+            transactionTemplate.executeWithoutResult(status -> apply(batch, numbers));
+            journal.drained(batch);
+            return null;
+        }, numbers.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private void apply(List<JournalEntry> batch, TreeSet<Long> numbers) {
+        Map<Long, Account> accounts = new HashMap<>();
+        for (var account : accountRepository.findByNumberIn(numbers))
+            accounts.put(account.getNumber(), account);
+
+        var transactions = new ArrayList<Transaction>(batch.size());
+        var rows = new ArrayList<Object[]>(batch.size());
+        for (var entry : batch) {
+            var transaction = new Transaction();
+            transaction.setId(entry.transactionId());
+            transaction.setType(entry.type());
+            transaction.setAmount(entry.amount());
+            transaction.setDateTime(entry.dateTime());
+
+            if (entry.sourceAccountNumber() != null) {
+                var source = accounts.get(entry.sourceAccountNumber());
+                source.setBalance(Money.subtract(source.getBalance(), entry.amount()));
+                transaction.setSourceAccount(source);
+            }
+
+            if (entry.receiverAccountNumber() != null) {
+                var receiver = accounts.get(entry.receiverAccountNumber());
+                receiver.setBalance(Money.add(receiver.getBalance(), entry.amount()));
+                transaction.setReceiverAccount(receiver);
+            }
+
+            transactions.add(transaction);
+            rows.add(new Object[] { transaction.getId(),
+                    transaction.getSourceAccount() != null ? transaction.getSourceAccount().getId() : null,
+                    transaction.getReceiverAccount() != null ? transaction.getReceiverAccount().getId() : null,
+                    transaction.getAmount(), transaction.getType().name(), transaction.getDateTime() });
+        }
+
+        // Os saldos são gravados pelo dirty checking no commit, na mesma conexão
+        jdbcTemplate.batchUpdate("""
+                insert into tb_transaction (id, source_account_id, receiver_account_id, amount, type, date_time)
+                values (?, ?, ?, ?, ?, ?)""", rows);
+        if (dailyAggregates != null)
+            dailyAggregates.enqueue(transactions);
+        checkpointRepository.save(new JournalCheckpoint(JournalCheckpoint.ID, batch.get(batch.size() - 1).sequence()));
+    }
+}
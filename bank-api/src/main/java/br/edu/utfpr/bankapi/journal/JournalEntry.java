@@ -0,0 +1,64 @@
+package br.edu.utfpr.bankapi.journal;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+/**
+ * Operação registrada no journal, com o id da transação já reservado em
+ * tb_transaction_seq. Os números de conta ausentes (ex.: origem de um depósito)
+ * são representados por null.
+ */
+public record JournalEntry(long sequence, long transactionId, TransactionType type, Long sourceAccountNumber,
+        Long receiverAccountNumber, long amount, LocalDateTime dateTime) {
+
+    /** Tamanho do registro serializado, em bytes */
+    static final int SIZE = Long.BYTES + Long.BYTES + Long.BYTES + 1 + 1 + Long.BYTES + Long.BYTES + Long.BYTES;
+
+    private static final byte HAS_SOURCE = 1;
+    private static final byte HAS_RECEIVER = 2;
+
+    public static JournalEntry of(long sequence, Transaction transaction) {
+        return new JournalEntry(sequence, transaction.getId(), transaction.getType(),
+                transaction.getSourceAccount() != null ? transaction.getSourceAccount().getNumber() : null,
+                transaction.getReceiverAccount() != null ? transaction.getReceiverAccount().getNumber() : null,
+                transaction.getAmount(), transaction.getDateTime());
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        byte flags = 0;
+        if (sourceAccountNumber != null)
+            flags |= HAS_SOURCE;
+        if (receiverAccountNumber != null)
+            flags |= HAS_RECEIVER;
+
+        buffer.putLong(sequence);
+        buffer.putLong(transactionId);
+        buffer.putLong(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli());
+        buffer.put((byte) type.ordinal());
+        buffer.put(flags);
+        buffer.putLong(sourceAccountNumber != null ? sourceAccountNumber : 0);
+        buffer.putLong(receiverAccountNumber != null ? receiverAccountNumber : 0);
+        buffer.putLong(amount);
+    }
+
+    static JournalEntry readFrom(ByteBuffer buffer) {
+        long sequence = buffer.getLong();
+        long transactionId = buffer.getLong();
+        var dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneOffset.UTC);
+        var type = TransactionType.values()[buffer.get()];
+        byte flags = buffer.get();
+        long source = buffer.getLong();
+        long receiver = buffer.getLong();
+        long amount = buffer.getLong();
+
+        return new JournalEntry(sequence, transactionId, type,
+                (flags & HAS_SOURCE) != 0 ? source : null,
+                (flags & HAS_RECEIVER) != 0 ? receiver : null,
+                amount, dateTime);
+    }
+}
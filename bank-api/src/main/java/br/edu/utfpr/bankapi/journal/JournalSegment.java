@@ -0,0 +1,129 @@
+package br.edu.utfpr.bankapi.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Arquivo de tamanho fixo do journal, mapeado em memória.
+ * 
+ * Cada registro é gravado como [tamanho][CRC32C][dados]. Um tamanho zero marca
+ * o fim do segmento; um CRC inválido indica uma escrita incompleta (queda do
+ * processo) e encerra a leitura.
+ */
+class JournalSegment implements Closeable {
+
+    static final String PREFIX = "journal-";
+    static final String SUFFIX = ".log";
+
+    private static final int HEADER = Integer.BYTES + Integer.BYTES;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+    private final byte[] record = new byte[JournalEntry.SIZE];
+    private long lastSequence;
+
+    private JournalSegment(Path path, int size) throws IOException {
+        this.path = path;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    static JournalSegment create(Path directory, long firstSequence, int size) throws IOException {
+        var path = directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+        return new JournalSegment(path, size);
+    }
+
+    /**
+     * Abre um segmento existente e lê os registros válidos
+     */
+    static JournalSegment open(Path path, List<JournalEntry> entries) throws IOException {
+        var segment = new JournalSegment(path, (int) Files.size(path));
+        segment.readAll(entries);
+        return segment;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * @return false se não houver espaço para o registro neste segmento
+     */
+    boolean append(JournalEntry entry) {
+        if (buffer.remaining() < HEADER + JournalEntry.SIZE + Integer.BYTES)
+            return false;
+
+        var data = ByteBuffer.wrap(record);
+        entry.writeTo(data);
+
+        crc.reset();
+        crc.update(record);
+
+        buffer.putInt(record.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(record);
+        lastSequence = entry.sequence();
+        return true;
+    }
+
+    /**
+     * Grava em disco (fsync) as alterações do segmento
+     */
+    void force() {
+        buffer.force();
+    }
+
+    private void readAll(List<JournalEntry> entries) {
+        var data = ByteBuffer.wrap(record);
+
+        while (buffer.remaining() >= HEADER) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+
+            if (length != JournalEntry.SIZE || buffer.remaining() < length) {
+                buffer.position(start);
+                break;
+            }
+
+            buffer.get(record);
+            crc.reset();
+            crc.update(record);
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(start);
+                break;
+            }
+
+            data.clear();
+            var entry = JournalEntry.readFrom(data);
+            entries.add(entry);
+            lastSequence = entry.sequence();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,284 @@
+package br.edu.utfpr.bankapi.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.JournalCheckpoint;
+import br.edu.utfpr.bankapi.model.Money;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.repository.JournalCheckpointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Journal local, somente de inclusão, das operações confirmadas.
+ * 
+ * Com {@code bankapi.journal.enabled=true} o {@code TransactionService} grava
+ * cada operação no journal e responde ao cliente após o fsync do segmento; o
+ * {@link JournalDrainer} grava as operações no banco em segundo plano. Enquanto
+ * não chegam ao banco, os valores das operações ficam em {@code pending} e são
+ * somados ao saldo lido do banco.
+ * 
+ * O id da transação é reservado em tb_transaction_seq antes da inclusão no
+ * journal: o id devolvido ao cliente (e aos eventos, à auditoria e às chaves de
+ * idempotência) é o mesmo da linha gravada depois pelo drainer.
+ * 
+ * Requer o modo de concorrência striped: os saldos pendentes estão na memória
+ * desta instância e são protegidos pelos locks das contas.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.journal.enabled", havingValue = "true")
+public class TransactionJournal {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final JournalCheckpointRepository checkpointRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // ReentrantLock em vez de synchronized: o fsync sob o lock não prende a
+    // thread portadora quando a requisição roda em uma virtual thread
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private final Deque<JournalSegment> segments = new ArrayDeque<>();
+    private final ConcurrentLinkedQueue<JournalEntry> undrained = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    private JournalSegment current;
+    private long nextSequence;
+    private volatile long appendedSequence;
+    private volatile long syncedSequence;
+
+    public TransactionJournal(
+            @Value("${bankapi.journal.directory:journal}") String directory,
+            @Value("${bankapi.journal.segment-size:67108864}") int segmentSize,
+            @Value("${bankapi.concurrency.mode:striped}") String concurrencyMode,
+            JournalCheckpointRepository checkpointRepository) {
+        if (!"striped".equals(concurrencyMode))
+            throw new IllegalStateException("O journal requer bankapi.concurrency.mode=striped");
+
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    /**
+     * Lê os segmentos existentes e recupera as operações ainda não gravadas no
+     * banco (posteriores ao checkpoint)
+     */
+    @PostConstruct
+    void recover() throws IOException {
+        Files.createDirectories(directory);
+
+        long checkpoint = checkpointRepository.findById(JournalCheckpoint.ID)
+                .map(JournalCheckpoint::getLastSequence)
+                .orElse(0L);
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(p -> p.getFileName().toString().startsWith(JournalSegment.PREFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        long last = checkpoint;
+        for (var file : files) {
+            var entries = new ArrayList<JournalEntry>();
+            var segment = JournalSegment.open(file, entries);
+
+            for (var entry : entries) {
+                if (entry.sequence() <= checkpoint)
+                    continue;
+                undrained.add(entry);
+                addPending(entry, 1);
+            }
+
+            if (!entries.isEmpty())
+                last = Math.max(last, segment.lastSequence());
+
+            if (entries.isEmpty() || segment.lastSequence() <= checkpoint)
+                segment.delete();
+            else
+                segments.add(segment);
+        }
+
+        nextSequence = last + 1;
+        appendedSequence = last;
+        syncedSequence = last;
+        current = JournalSegment.create(directory, nextSequence, segmentSize);
+        segments.add(current);
+    }
+
+    /**
+     * Grava a operação no journal e aguarda o fsync. Chamadas concorrentes
+     * compartilham o mesmo fsync (group commit). Deve ser chamado dentro de uma
+     * transação do banco, usada para reservar o id.
+     */
+    public Transaction append(Transaction transaction) {
+        transaction.setId(reserveId(transaction));
+
+        JournalEntry entry;
+        appendLock.lock();
+        try {
+            entry = JournalEntry.of(nextSequence, transaction);
+            if (!current.append(entry)) {
+                current.force();
+                rotate();
+                current.append(entry);
+            }
+            nextSequence++;
+            appendedSequence = entry.sequence();
+            undrained.add(entry);
+        } finally {
+            appendLock.unlock();
+        }
+
+        sync(entry.sequence());
+        addPending(entry, 1);
+        return transaction;
+    }
+
+    /**
+     * Próximo id de tb_transaction_seq, pelo mesmo gerador (e bloco pooled) das
+     * inclusões feitas pelo JPA
+     */
+    private long reserveId(Transaction transaction) {
+        var session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        var generator = (BeforeExecutionGenerator) session.getEntityPersister(null, transaction).getGenerator();
+        return (Long) generator.generate(session, transaction, null, EventType.INSERT);
+    }
+
+    private void rotate() {
+        try {
+            current = JournalSegment.create(directory, nextSequence, segmentSize);
+            segments.add(current);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void sync(long sequence) {
+        if (syncedSequence >= sequence)
+            return;
+
+        syncLock.lock();
+        try {
+            if (syncedSequence >= sequence)
+                return;
+
+            // Tudo o que foi incluído até aqui é gravado pelo mesmo fsync
+            long target = appendedSequence;
+            JournalSegment segment;
+            appendLock.lock();
+            try {
+                segment = current;
+            } finally {
+                appendLock.unlock();
+            }
+            segment.force();
+            syncedSequence = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Retorna uma cópia da conta com o saldo somado às operações pendentes,
+     * que pode ser alterada sem afetar a entidade gerenciada pelo JPA
+     */
+    public Account view(Account account) {
+        var copy = new Account(account.getName(), account.getNumber(),
+                Money.add(account.getBalance(), pendingDelta(account.getNumber())), account.getSpecialLimit());
+        copy.setId(account.getId());
+        copy.setVersion(account.getVersion());
+        return copy;
+    }
+
+    public long pendingDelta(long accountNumber) {
+        return pending.getOrDefault(accountNumber, 0L);
+    }
+
+    /**
+     * Próximas operações já gravadas em disco e ainda não gravadas no banco
+     */
+    List<JournalEntry> poll(int max) {
+        var batch = new ArrayList<JournalEntry>();
+        JournalEntry entry;
+        while (batch.size() < max && (entry = undrained.peek()) != null && entry.sequence() <= syncedSequence)
+            batch.add(undrained.poll());
+        return batch;
+    }
+
+    /**
+     * Chamado após o commit das operações no banco, com os locks das contas
+     * adquiridos
+     */
+    void drained(List<JournalEntry> batch) {
+        for (var entry : batch)
+            addPending(entry, -1);
+
+        long checkpoint = batch.get(batch.size() - 1).sequence();
+        appendLock.lock();
+        try {
+            while (segments.size() > 1 && segments.peekFirst().lastSequence() <= checkpoint) {
+                try {
+                    segments.pollFirst().delete();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    boolean isDrained() {
+        return undrained.isEmpty();
+    }
+
+    private void addPending(JournalEntry entry, int signal) {
+        if (entry.sourceAccountNumber() != null)
+            pending.merge(entry.sourceAccountNumber(), -signal * entry.amount(), TransactionJournal::sum);
+        if (entry.receiverAccountNumber() != null)
+            pending.merge(entry.receiverAccountNumber(), signal * entry.amount(), TransactionJournal::sum);
+    }
+
+    private static Long sum(Long a, Long b) {
+        long total = a + b;
+        return total == 0 ? null : total;
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        appendLock.lock();
+        try {
+            for (var segment : segments)
+                segment.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+}
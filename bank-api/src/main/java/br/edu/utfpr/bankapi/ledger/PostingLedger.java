@@ -0,0 +1,233 @@
+package br.edu.utfpr.bankapi.ledger;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.BalanceSnapshot;
+import br.edu.utfpr.bankapi.model.Money;
+import br.edu.utfpr.bankapi.model.Posting;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.BalanceSnapshotRepository;
+import br.edu.utfpr.bankapi.repository.PostingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Ledger de partidas dobradas: as transações geram lançamentos imutáveis e o
+ * saldo da conta deixa de ser reescrito a cada operação.
+ * 
+ * O saldo é derivado do snapshot mais recente somado aos lançamentos
+ * posteriores a ele. Em segundo plano, as contas com snapshot-threshold
+ * lançamentos ou mais desde o último snapshot ganham um novo, mantendo a
+ * leitura do saldo (atual ou em uma data) limitada a poucos lançamentos.
+ * 
+ * Os lançamentos de uma conta são numerados em sequência sob o bloqueio da
+ * conta, por isso o modo requer bankapi.concurrency.mode striped ou
+ * pessimistic, e não pode ser combinado com o journal. A coluna balance de
+ * tb_account passa a ser o saldo de abertura, anterior ao primeiro lançamento.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.ledger.enabled", havingValue = "true")
+public class PostingLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(PostingLedger.class);
+
+    private record Balance(long amount, long lastSequence, long postings) {
+    }
+
+    @Autowired
+    private PostingRepository postingRepository;
+
+    @Autowired
+    private BalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${bankapi.concurrency.mode:striped}")
+    private String concurrencyMode;
+
+    @Value("${bankapi.journal.enabled:false}")
+    private boolean journalEnabled;
+
+    @Value("${bankapi.ledger.snapshot-threshold:100}")
+    private long snapshotThreshold;
+
+    @Value("${bankapi.ledger.compaction-interval-seconds:60}")
+    private long compactionIntervalSeconds;
+
+    // Contas com lançamentos desde o último snapshot (id -> quantidade)
+    private final Map<Long, Long> uncompacted = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        if (concurrencyMode.equals("optimistic"))
+            throw new IllegalStateException("bankapi.ledger.enabled requer bankapi.concurrency.mode striped ou pessimistic");
+        if (journalEnabled)
+            throw new IllegalStateException("bankapi.ledger.enabled não pode ser combinado com bankapi.journal.enabled");
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "ledger-compaction"));
+        executor.scheduleWithFixedDelay(this::compactSafely, compactionIntervalSeconds, compactionIntervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Cópia da conta com o saldo derivado do ledger. As operações alteram a
+     * cópia, de modo que a linha da conta não é atualizada.
+     */
+    public Account view(Account account) {
+        var copy = new Account(account.getName(), account.getNumber(), balance(account), account.getSpecialLimit());
+        copy.setId(account.getId());
+        copy.setVersion(account.getVersion());
+        return copy;
+    }
+
+    public long balance(Account account) {
+        return current(account).amount();
+    }
+
+    /**
+     * Saldo da conta na data informada: o último snapshot até a data somado aos
+     * lançamentos seguintes, lidos apenas até o primeiro snapshot após a data.
+     * Assim a leitura percorre no máximo os lançamentos entre dois snapshots,
+     * mesmo para datas antigas
+     */
+    public long balanceAt(Account account, LocalDateTime at) {
+        var snapshot = snapshotRepository
+                .findFirstByKeyAccountIdAndDateTimeLessThanEqualOrderByDateTimeDescKeyLastSequenceDesc(
+                        account.getId(), at);
+        var next = snapshotRepository
+                .findFirstByKeyAccountIdAndDateTimeGreaterThanOrderByDateTimeAscKeyLastSequenceAsc(
+                        account.getId(), at);
+
+        long base = snapshot.map(BalanceSnapshot::getBalance).orElse(account.getBalance());
+        long after = snapshot.map(s -> s.getKey().getLastSequence()).orElse(0L);
+        long until = next.map(s -> s.getKey().getLastSequence()).orElse(Long.MAX_VALUE);
+
+        return Money.add(base, postingRepository.sumUntil(account.getId(), after, until, at));
+    }
+
+    private Balance current(Account account) {
+        var snapshot = snapshotRepository.findFirstByKeyAccountIdOrderByKeyLastSequenceDesc(account.getId());
+
+        long base = snapshot.map(BalanceSnapshot::getBalance).orElse(account.getBalance());
+        long after = snapshot.map(s -> s.getKey().getLastSequence()).orElse(0L);
+        var summary = postingRepository.summarize(account.getId(), after);
+
+        // Após um restart, as contas são reencontradas pela leitura do saldo
+        if (summary.count() >= snapshotThreshold)
+            uncompacted.put(account.getId(), summary.count());
+
+        return new Balance(Money.add(base, summary.amount()), summary.lastSequence(), summary.count());
+    }
+
+    /**
+     * Grava os lançamentos das transações, na transação do banco em andamento.
+     * As contas envolvidas devem estar bloqueadas.
+     */
+    public void post(List<Transaction> transactions) {
+        Map<Long, Long> sequences = new HashMap<>();
+        var postings = new ArrayList<Posting>(transactions.size() * 2);
+
+        for (var transaction : transactions) {
+            // Débito na origem (ou na contrapartida externa) e crédito no destino
+            postings.add(leg(transaction, transaction.getSourceAccount(), -transaction.getAmount(), sequences));
+            postings.add(leg(transaction, transaction.getReceiverAccount(), transaction.getAmount(), sequences));
+        }
+
+        postingRepository.saveAll(postings);
+    }
+
+    private Posting leg(Transaction transaction, Account account, long amount, Map<Long, Long> sequences) {
+        if (account == null)
+            return new Posting(0, null, 0, transaction.getId(), amount, transaction.getDateTime());
+
+        long id = account.getId();
+        long sequence = sequences.computeIfAbsent(id, postingRepository::findLastSequence) + 1;
+        sequences.put(id, sequence);
+        uncompacted.merge(id, 1L, Long::sum);
+
+        return new Posting(0, id, sequence, transaction.getId(), amount, transaction.getDateTime());
+    }
+
+    private void compactSafely() {
+        try {
+            compact();
+        } catch (RuntimeException ex) {
+            log.warn("Falha na compactação do ledger", ex);
+        }
+    }
+
+    /**
+     * Grava um snapshot para as contas com snapshot-threshold lançamentos ou
+     * mais desde o último
+     * 
+     * @return quantidade de snapshots gravados
+     */
+    public int compact() {
+        int written = 0;
+        for (var entry : uncompacted.entrySet()) {
+            if (entry.getValue() < snapshotThreshold)
+                continue;
+
+            long accountId = entry.getKey();
+            uncompacted.remove(accountId);
+            Boolean saved = transactionTemplate.execute(status -> snapshot(accountId));
+            if (Boolean.TRUE.equals(saved))
+                written++;
+        }
+        return written;
+    }
+
+    /**
+     * Os lançamentos já confirmados formam um prefixo da sequência da conta,
+     * pois são numerados e gravados sob o bloqueio dela: o snapshot não precisa
+     * bloquear a conta
+     */
+    private boolean snapshot(long accountId) {
+        var account = accountRepository.findById(accountId);
+        if (account.isEmpty())
+            return false;
+
+        var balance = current(account.get());
+        uncompacted.remove(accountId);
+        if (balance.postings() == 0)
+            return false;
+
+        var last = postingRepository.findByAccountIdAndAccountSequence(accountId, balance.lastSequence());
+        if (last.isEmpty())
+            return false;
+
+        snapshotRepository.save(new BalanceSnapshot(new BalanceSnapshot.Key(accountId, balance.lastSequence()),
+                balance.amount(), last.get().getDateTime()));
+        return true;
+    }
+}
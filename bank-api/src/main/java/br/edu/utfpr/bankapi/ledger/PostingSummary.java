@@ -0,0 +1,11 @@
+package br.edu.utfpr.bankapi.ledger;
+
+/**
+ * Lançamentos de uma conta posteriores a um snapshot
+ * 
+ * @param amount       soma, em centavos
+ * @param lastSequence último lançamento (o do snapshot, se não houver)
+ * @param count        quantidade
+ */
+public record PostingSummary(long amount, long lastSequence, long count) {
+}
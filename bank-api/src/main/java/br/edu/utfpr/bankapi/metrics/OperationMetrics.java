@@ -0,0 +1,96 @@
+package br.edu.utfpr.bankapi.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import br.edu.utfpr.bankapi.concurrency.AccountOperation;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Métricas das operações sobre as contas (Micrometer), publicadas em
+ * /actuator/prometheus:
+ * 
+ * <ul>
+ * <li>bankapi.operation {operation, outcome}: duração de cada operação</li>
+ * <li>bankapi.operation.step {operation, step}: busca das contas, validação do
+ * saldo e gravação no banco</li>
+ * <li>bankapi.operation.rejections {operation, reason}: operações rejeitadas
+ * (conta inexistente ou sem saldo)</li>
+ * </ul>
+ * 
+ * Os timers publicam histogramas, permitindo calcular p99 no Prometheus.
+ */
+@Component
+public class OperationMetrics {
+
+    public static final String ACCOUNT_LOOKUP = "account-lookup";
+    public static final String BALANCE_VALIDATION = "balance-validation";
+    public static final String PERSISTENCE = "persistence";
+
+    private final Meter.MeterProvider<Timer> operations;
+    private final Meter.MeterProvider<Timer> steps;
+    private final Meter.MeterProvider<Counter> rejections;
+
+    public OperationMetrics(MeterRegistry registry) {
+        operations = Timer.builder("bankapi.operation")
+                .description("Duração das operações sobre as contas")
+                .publishPercentileHistogram()
+                .withRegistry(registry);
+        steps = Timer.builder("bankapi.operation.step")
+                .description("Duração de cada etapa das operações")
+                .publishPercentileHistogram()
+                .withRegistry(registry);
+        rejections = Counter.builder("bankapi.operation.rejections")
+                .description("Operações rejeitadas")
+                .withRegistry(registry);
+    }
+
+    /**
+     * Executa e mede uma operação, contando as rejeições
+     */
+    public <T> T time(String operation, AccountOperation<T> body) throws NotFoundException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = body.run();
+            outcome = "success";
+            return result;
+        } catch (NotFoundException | WithoutBalanceException ex) {
+            outcome = "rejected";
+            rejections.withTags("operation", operation, "reason", ex.getClass().getSimpleName()).increment();
+            throw ex;
+        } finally {
+            operations.withTags("operation", operation, "outcome", outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Executa e mede uma etapa de uma operação
+     */
+    public <T> T step(String operation, String step, AccountOperation<T> body) throws NotFoundException {
+        long start = System.nanoTime();
+        try {
+            return body.run();
+        } finally {
+            steps.withTags("operation", operation, "step", step)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void step(String operation, String step, Runnable body) {
+        long start = System.nanoTime();
+        try {
+            body.run();
+        } finally {
+            steps.withTags("operation", operation, "step", step)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
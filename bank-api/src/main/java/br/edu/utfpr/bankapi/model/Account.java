@@ -1,12 +1,20 @@
 package br.edu.utfpr.bankapi.model;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import br.edu.utfpr.bankapi.dto.AccountDTO;
+import br.edu.utfpr.bankapi.dto.MoneySerializer;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,7 +26,10 @@ import lombok.NoArgsConstructor;
 @Table(name = "tb_account")
 public class Account {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "tb_account_seq")
+    @GenericGenerator(name = "tb_account_seq", type = PooledSequenceGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "tb_account_seq"),
+            @Parameter(name = "increment_size", value = "50") })
     private long id;
 
     @Column(nullable = false)
@@ -28,17 +39,51 @@ public class Account {
     private long number;
     // private int checkDigit;
 
+    // Valores em centavos (ver Money). Nas contas quentes, a coluna guarda só
+    // parte do saldo: os créditos vão para os sub-saldos (ver getBalance)
+    @Column(nullable = false)
+    @JsonSerialize(using = MoneySerializer.class)
+    private long balance;
+
+    @Column(nullable = false)
+    @JsonSerialize(using = MoneySerializer.class)
+    private long specialLimit;
+
+    @Version
     @Column(nullable = false)
-    private double balance;
+    private long version;
 
+    // Quantidade de sub-saldos (tb_account_slot) da conta quente; 0 nas demais
     @Column(nullable = false)
-    private double specialLimit;
+    private int balanceSlots;
+
+    // Soma dos sub-saldos, carregada só nas contas quentes (ver
+    // HotAccounts.withSlots); 0 nas demais
+    @Transient
+    @JsonIgnore
+    private long slotBalance;
+
+    /**
+     * Saldo da conta: a coluna balance mais os sub-saldos
+     */
+    public long getBalance() {
+        return Money.add(balance, slotBalance);
+    }
+
+    /**
+     * Altera o saldo da conta; a diferença é aplicada à coluna balance e os
+     * sub-saldos não mudam
+     */
+    public void setBalance(long balance) {
+        this.balance = Money.subtract(balance, slotBalance);
+    }
 
-    public double getBalanceWithLimit() {
-        return balance + specialLimit;
+    @JsonSerialize(using = MoneySerializer.class)
+    public long getBalanceWithLimit() {
+        return Money.add(getBalance(), specialLimit);
     }
 
-    public Account(String name, long number, double balance, double specialLimit) {
+    public Account(String name, long number, long balance, long specialLimit) {
         this.name = name;
         this.number = number;
         this.balance = balance;
@@ -0,0 +1,42 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sub-saldo de uma conta quente. Os créditos são distribuídos entre os
+ * sub-saldos, que não disputam a linha da conta; o saldo da conta é a coluna
+ * balance de tb_account mais a soma dos sub-saldos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tb_account_slot")
+public class AccountSlot {
+
+    @EmbeddedId
+    private Key key;
+
+    // Saldo em centavos (ver Money)
+    @Column(nullable = false)
+    private long balance;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Embeddable
+    public static class Key implements Serializable {
+        private long accountId;
+
+        private int slot;
+    }
+}
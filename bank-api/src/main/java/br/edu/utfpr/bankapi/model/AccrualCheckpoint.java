@@ -0,0 +1,46 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bloco de uma partição (faixa de ids de contas) cujos juros e encargos do mês
+ * já foram aplicados. É gravado na mesma transação que as atualizações do
+ * bloco, de modo que uma execução interrompida recomeça apenas pelos blocos que
+ * faltam.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tb_accrual_checkpoint")
+public class AccrualCheckpoint {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Embeddable
+    public static class Key implements Serializable {
+        // Mês de referência no formato yyyy-MM
+        @Column(length = 7)
+        private String period;
+
+        // Primeiro id da partição
+        private long firstId;
+    }
+}
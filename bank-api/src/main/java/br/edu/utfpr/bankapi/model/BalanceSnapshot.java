@@ -0,0 +1,49 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Saldo da conta após os lançamentos até lastSequence. O saldo atual é o do
+ * snapshot mais recente somado aos lançamentos posteriores a ele.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tb_balance_snapshot", indexes = {
+        @Index(name = "idx_balance_snapshot_account_date", columnList = "accountId, dateTime, lastSequence") })
+public class BalanceSnapshot {
+
+    @EmbeddedId
+    private Key key;
+
+    // Saldo em centavos (ver Money)
+    @Column(nullable = false)
+    private long balance;
+
+    // Data do último lançamento incluído
+    @Column(nullable = false)
+    private LocalDateTime dateTime;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Embeddable
+    public static class Key implements Serializable {
+        private long accountId;
+
+        // Último lançamento da conta incluído no saldo
+        private long lastSequence;
+    }
+}
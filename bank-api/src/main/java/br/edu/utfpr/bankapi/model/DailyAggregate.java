@@ -0,0 +1,55 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Movimento de uma conta em um dia, por tipo de transação, mantido a partir
+ * dos eventos das transações confirmadas (ver DailyAggregates)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tb_daily_aggregate")
+public class DailyAggregate {
+
+    @EmbeddedId
+    private Key key;
+
+    // Valores em centavos (ver Money) que entraram e saíram da conta
+    @Column(nullable = false)
+    private long credited;
+
+    @Column(nullable = false)
+    private long debited;
+
+    // Quantidade de transações
+    @Column(nullable = false)
+    private long transactions;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Embeddable
+    public static class Key implements Serializable {
+        private long accountId;
+
+        @Column(name = "aggregate_day")
+        private LocalDate day;
+
+        @Enumerated(EnumType.STRING)
+        private TransactionType type;
+    }
+}
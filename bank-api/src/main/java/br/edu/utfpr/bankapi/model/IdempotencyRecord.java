@@ -0,0 +1,42 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resposta já enviada para uma Idempotency-Key, guardada para que as
+ * repetições da requisição recebam o mesmo resultado mesmo após um restart
+ * (bankapi.idempotency.persistent=true).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tb_idempotency_key")
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    // Operação e hash do corpo da requisição original
+    @Column(nullable = false, length = 100)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private int status;
+
+    // Corpo da resposta em JSON
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
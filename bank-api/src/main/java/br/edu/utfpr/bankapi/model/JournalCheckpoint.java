@@ -0,0 +1,29 @@
+package br.edu.utfpr.bankapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Última operação do journal já gravada no banco de dados. É atualizada na
+ * mesma transação que grava as operações, o que torna a reaplicação do journal
+ * idempotente.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tb_journal_checkpoint")
+public class JournalCheckpoint {
+    public static final long ID = 1;
+
+    @Id
+    private long id;
+
+    @Column(nullable = false)
+    private long lastSequence;
+}
@@ -0,0 +1,71 @@
+package br.edu.utfpr.bankapi.model;
+
+/**
+ * Valores monetários em centavos (long).
+ * 
+ * Saldos, limites e valores das transações são guardados como a quantidade de
+ * centavos, o que torna somas e comparações exatas e sem alocação. A API JSON
+ * continua usando reais com casas decimais (ver MoneySerializer e
+ * MoneyDeserializer).
+ */
+public final class Money {
+
+    public static final long CENTS_PER_UNIT = 100;
+
+    private Money() {
+    }
+
+    /**
+     * Converte um valor em reais para centavos, arredondando para o centavo
+     * mais próximo (empate para o par)
+     */
+    public static long ofUnits(double units) {
+        double scaled = units * CENTS_PER_UNIT;
+        if (!(Math.abs(scaled) < 0x1p52))
+            throw new ArithmeticException("Valor fora do intervalo: " + units);
+
+        // Arredonda pelo valor exato de units (como new BigDecimal(units)), e não
+        // pelo produto já arredondado: o sinal do fma em relação ao ponto médio
+        // entre dois centavos é exato
+        long floor = (long) Math.floor(scaled);
+        double diff = Math.fma(units, CENTS_PER_UNIT, -(floor + 0.5));
+
+        if (diff > 0 || (diff == 0 && (floor & 1) != 0))
+            return floor + 1;
+        return floor;
+    }
+
+    /**
+     * Converte centavos para reais
+     */
+    public static double toUnits(long cents) {
+        return (double) cents / CENTS_PER_UNIT;
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Multiplica um valor por um fator (ex.: taxa de juros), arredondando o
+     * resultado para o centavo (empate para o par)
+     */
+    public static long multiply(long cents, double factor) {
+        return roundHalfEven(cents * factor);
+    }
+
+    /**
+     * Arredonda para o inteiro mais próximo, com empate para o par
+     * (RoundingMode.HALF_EVEN), sem alocação
+     */
+    public static long roundHalfEven(double value) {
+        double rounded = Math.rint(value);
+        if (rounded >= Long.MAX_VALUE || rounded <= Long.MIN_VALUE)
+            throw new ArithmeticException("Valor fora do intervalo: " + value);
+        return (long) rounded;
+    }
+}
@@ -0,0 +1,25 @@
+package br.edu.utfpr.bankapi.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Transação ainda não somada aos agregados diários. É incluída na mesma
+ * transação do banco que grava a transação e removida na mesma transação que a
+ * soma aos agregados (ver DailyAggregates): nenhuma transação confirmada fica
+ * fora dos agregados nem é somada duas vezes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tb_pending_aggregation")
+public class PendingAggregation {
+
+    @Id
+    private long transactionId;
+}
@@ -0,0 +1,33 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Gerador de identificadores baseado em sequência com otimizador pooled.
+ * 
+ * Cada acesso à sequência reserva um bloco de ids, cujo tamanho é lido da
+ * propriedade {@code spring.jpa.properties.bankapi.id.allocation_size}. Ao
+ * contrário de IDENTITY, o id é conhecido antes do INSERT, o que permite ao
+ * Hibernate enviar os inserts em lote (JDBC batch).
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE = "bankapi.id.allocation_size";
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        var allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings().get(ALLOCATION_SIZE);
+
+        if (allocationSize != null)
+            params.setProperty(INCREMENT_PARAM, allocationSize.toString());
+
+        super.configure(type, params, serviceRegistry);
+    }
+}
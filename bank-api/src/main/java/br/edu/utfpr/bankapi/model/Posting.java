@@ -0,0 +1,57 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Parameter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Lançamento (débito ou crédito) de uma transação no ledger
+ * (bankapi.ledger.enabled=true). Cada transação gera lançamentos que somam
+ * zero; uma vez gravados, nunca são alterados.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "tb_posting", indexes = {
+        @Index(name = "uk_posting_account_sequence", columnList = "accountId, accountSequence", unique = true) })
+public class Posting {
+    @Id
+    @GeneratedValue(generator = "tb_posting_seq")
+    @GenericGenerator(name = "tb_posting_seq", type = PooledSequenceGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "tb_posting_seq"),
+            @Parameter(name = "increment_size", value = "50") })
+    private long id;
+
+    // Conta lançada; null na contrapartida externa (depósito, saque, juros)
+    private Long accountId;
+
+    // Posição do lançamento na conta (1, 2, ...); 0 na contrapartida externa
+    @Column(nullable = false)
+    private long accountSequence;
+
+    @Column(nullable = false)
+    private long transactionId;
+
+    // Valor em centavos (ver Money): positivo a crédito, negativo a débito
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(nullable = false)
+    private LocalDateTime dateTime;
+}
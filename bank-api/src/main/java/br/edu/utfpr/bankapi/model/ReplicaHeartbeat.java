@@ -0,0 +1,30 @@
+package br.edu.utfpr.bankapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Batimento gravado periodicamente no banco principal (bankapi.replica). O
+ * atraso da réplica é a diferença entre o relógio da aplicação e o último
+ * batimento que chegou a ela.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tb_replica_heartbeat")
+public class ReplicaHeartbeat {
+    public static final long ID = 1;
+
+    @Id
+    private long id;
+
+    // Instante do batimento, em milissegundos desde a época (relógio da aplicação)
+    @Column(nullable = false)
+    private long beatMillis;
+}
@@ -2,12 +2,18 @@ package br.edu.utfpr.bankapi.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import br.edu.utfpr.bankapi.dto.MoneySerializer;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -15,10 +21,15 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "tb_transaction")
+@Table(name = "tb_transaction", indexes = {
+        @Index(name = "idx_transaction_source_date", columnList = "source_account_id, dateTime, id"),
+        @Index(name = "idx_transaction_receiver_date", columnList = "receiver_account_id, dateTime, id") })
 public class Transaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "tb_transaction_seq")
+    @GenericGenerator(name = "tb_transaction_seq", type = PooledSequenceGenerator.class, parameters = {
+            @Parameter(name = "sequence_name", value = "tb_transaction_seq"),
+            @Parameter(name = "increment_size", value = "50") })
     private long id;
 
     @ManyToOne
@@ -29,7 +40,9 @@ public class Transaction {
     @JoinColumn(name = "receiver_account_id")
     private Account receiverAccount;
 
-    private double amount;
+    // Valor em centavos (ver Money)
+    @JsonSerialize(using = MoneySerializer.class)
+    private long amount;
 
     @Enumerated(EnumType.STRING)
     private TransactionType type;
@@ -40,7 +53,7 @@ public class Transaction {
         dateTime = LocalDateTime.now();
     }
 
-    public Transaction(Account sourceAccount, Account receiverAccount, double amount, TransactionType type) {
+    public Transaction(Account sourceAccount, Account receiverAccount, long amount, TransactionType type) {
         this.sourceAccount = sourceAccount;
         this.receiverAccount = receiverAccount;
         this.amount = amount;
@@ -3,5 +3,7 @@ package br.edu.utfpr.bankapi.model;
 public enum TransactionType {
     TRANSFER,
     DEPOSIT,
-    WITHDRAW;
+    WITHDRAW,
+    // Juros (crédito) ou encargos de cheque especial (débito) do fechamento do mês
+    ACCRUAL;
 }
@@ -0,0 +1,190 @@
+package br.edu.utfpr.bankapi.partitioning;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Partições mensais de tb_transaction (por date_time), criadas pela migração
+ * V12 (db/partitioning) no PostgreSQL (particionamento nativo) ou no MariaDB
+ * (RANGE COLUMNS).
+ *
+ * Na inicialização e diariamente (bankapi.partitioning.cron), cria as
+ * partições dos próximos months-ahead meses e retira as partições anteriores
+ * à janela de retenção (retention-months; 0 mantém todas): com
+ * retention-action=drop, a partição é apagada; com detach, vira uma tabela
+ * comum (tb_transaction_pAAAAMM), fora das consultas, para arquivamento.
+ *
+ * As consultas do extrato limitam o período ao início da retenção
+ * (oldestRetained) e consultam primeiro o mês mais recente, de modo que o
+ * banco percorra só as partições necessárias.
+ */
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "bankapi.partitioning.enabled", havingValue = "true")
+public class TransactionPartitions {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitions.class);
+
+    private static final String TABLE = "tb_transaction";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    enum Vendor {
+        POSTGRESQL, MARIADB
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${bankapi.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${bankapi.partitioning.retention-months:0}")
+    private int retentionMonths;
+
+    @Value("${bankapi.partitioning.retention-action:drop}")
+    private String retentionAction;
+
+    private Vendor vendor;
+
+    @PostConstruct
+    void start() {
+        if (!retentionAction.equals("drop") && !retentionAction.equals("detach"))
+            throw new IllegalStateException("bankapi.partitioning.retention-action deve ser drop ou detach");
+
+        var product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (product.startsWith("PostgreSQL"))
+            vendor = Vendor.POSTGRESQL;
+        else if (product.startsWith("MariaDB") || product.startsWith("MySQL"))
+            vendor = Vendor.MARIADB;
+        else
+            throw new IllegalStateException("bankapi.partitioning.enabled requer PostgreSQL ou MariaDB (" + product + ")");
+
+        maintain(YearMonth.now());
+    }
+
+    @Scheduled(cron = "${bankapi.partitioning.cron:0 30 2 * * *}")
+    void runScheduled() {
+        try {
+            maintain(YearMonth.now());
+        } catch (Exception ex) {
+            log.error("Falha na manutenção das partições de " + TABLE, ex);
+        }
+    }
+
+    /**
+     * Cria as partições que faltam até current + months-ahead e retira as
+     * anteriores à retenção
+     */
+    synchronized void maintain(YearMonth current) {
+        var existing = partitions();
+        if (existing.isEmpty())
+            throw new IllegalStateException(TABLE + " não é particionada por mês (ver a migração V12 em db/partitioning)");
+
+        // Só depois da última partição: no MariaDB, os meses anteriores já estão
+        // na faixa de alguma partição
+        for (var month = existing.last().plusMonths(1); !month.isAfter(current.plusMonths(monthsAhead)); month = month
+                .plusMonths(1)) {
+            create(month);
+            log.info("Partição {} criada", name(month));
+        }
+
+        var oldest = oldestRetained(current);
+        if (oldest == null)
+            return;
+
+        // Mantém ao menos uma partição (no MariaDB, não é possível retirar todas)
+        for (var month : existing.headSet(oldest))
+            if (!month.equals(existing.last())) {
+                retire(month);
+                log.info("Partição {} retirada ({})", name(month), retentionAction);
+            }
+    }
+
+    /**
+     * Primeiro mês mantido pela retenção, ou null se todas são mantidas
+     */
+    YearMonth oldestRetained(YearMonth current) {
+        return retentionMonths > 0 ? current.minusMonths(retentionMonths) : null;
+    }
+
+    /**
+     * Início do período ainda nas partições: transações anteriores foram
+     * retiradas e não precisam ser consultadas
+     */
+    public LocalDateTime retainedSince() {
+        var oldest = oldestRetained(YearMonth.now());
+        return oldest != null ? oldest.atDay(1).atStartOfDay() : null;
+    }
+
+    /**
+     * Meses com partição (no MariaDB, pelo nome pAAAAMM; a partição pmax recebe
+     * as datas além da última)
+     */
+    TreeSet<YearMonth> partitions() {
+        var names = switch (vendor) {
+            case POSTGRESQL -> jdbcTemplate.queryForList("""
+                    select c.relname from pg_inherits i
+                        join pg_class c on c.oid = i.inhrelid
+                        join pg_class p on p.oid = i.inhparent
+                    where p.relname = ?""", String.class, TABLE);
+            case MARIADB -> jdbcTemplate.queryForList("""
+                    select partition_name from information_schema.partitions
+                    where table_schema = database() and table_name = ? and partition_name is not null""",
+                    String.class, TABLE);
+        };
+
+        var prefix = vendor == Vendor.POSTGRESQL ? TABLE + "_p" : "p";
+        var months = new TreeSet<YearMonth>();
+        for (var name : names)
+            if (name.startsWith(prefix) && name.length() == prefix.length() + 6)
+                months.add(YearMonth.parse(name.substring(prefix.length()), SUFFIX));
+        return months;
+    }
+
+    private void create(YearMonth month) {
+        var from = month.atDay(1);
+        var to = month.plusMonths(1).atDay(1);
+
+        switch (vendor) {
+            case POSTGRESQL -> jdbcTemplate.execute("create table if not exists " + name(month)
+                    + " partition of " + TABLE + " for values from ('" + from + "') to ('" + to + "')");
+            case MARIADB -> jdbcTemplate.execute("alter table " + TABLE + " reorganize partition pmax into ("
+                    + "partition p" + month.format(SUFFIX) + " values less than ('" + to + "'), "
+                    + "partition pmax values less than (maxvalue))");
+        }
+    }
+
+    private void retire(YearMonth month) {
+        boolean detach = retentionAction.equals("detach");
+
+        switch (vendor) {
+            case POSTGRESQL -> {
+                jdbcTemplate.execute("alter table " + TABLE + " detach partition " + name(month));
+                if (!detach)
+                    jdbcTemplate.execute("drop table " + name(month));
+            }
+            case MARIADB -> jdbcTemplate.execute(detach
+                    ? "alter table " + TABLE + " convert partition p" + month.format(SUFFIX) + " to table " + name(month)
+                    : "alter table " + TABLE + " drop partition p" + month.format(SUFFIX));
+        }
+    }
+
+    private static String name(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,58 @@
+package br.edu.utfpr.bankapi.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Conexões das transações somente leitura: da réplica quando ela está
+ * disponível e dentro do atraso tolerado, senão do banco principal. Uma falha
+ * ao obter a conexão da réplica marca a réplica como indisponível até a
+ * próxima verificação bem-sucedida.
+ */
+public class ReplicaDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final ReplicaRouting routing;
+
+    public ReplicaDataSource(DataSource replica, DataSource primary, ReplicaRouting routing) {
+        super(replica);
+        this.primary = primary;
+        this.routing = routing;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (routing.available()) {
+            try {
+                var connection = super.getConnection();
+                routing.servedByReplica();
+                return connection;
+            } catch (SQLException ex) {
+                routing.unavailable(ex);
+            }
+        }
+
+        routing.servedByPrimary();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (routing.available()) {
+            try {
+                var connection = super.getConnection(username, password);
+                routing.servedByReplica();
+                return connection;
+            } catch (SQLException ex) {
+                routing.unavailable(ex);
+            }
+        }
+
+        routing.servedByPrimary();
+        return primary.getConnection(username, password);
+    }
+}
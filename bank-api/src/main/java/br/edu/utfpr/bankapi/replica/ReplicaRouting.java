@@ -0,0 +1,212 @@
+package br.edu.utfpr.bankapi.replica;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.edu.utfpr.bankapi.model.ReplicaHeartbeat;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Leituras na réplica: as transações somente leitura
+ * ({@code @Transactional(readOnly = true)}, como as consultas de AccountService
+ * e TransactionHistoryService) usam um pool de conexões da réplica
+ * (bankapi.replica.url); as demais, inclusive todas as de TransactionService,
+ * usam o banco principal.
+ *
+ * O DataSource principal é envolvido por um LazyConnectionDataSourceProxy: a
+ * conexão só é obtida no primeiro comando, quando já se sabe se a transação é
+ * somente leitura.
+ *
+ * O atraso da réplica é medido por um batimento (tb_replica_heartbeat) gravado
+ * no banco principal a cada heartbeat-millis e lido da réplica. Com atraso
+ * acima de max-lag-millis, ou com a réplica fora do ar, as leituras voltam ao
+ * banco principal até a próxima verificação bem-sucedida. Dentro do atraso
+ * tolerado, uma leitura logo após uma escrita pode não vê-la.
+ */
+@Component
+@ConditionalOnProperty(name = "bankapi.replica.enabled", havingValue = "true")
+public class ReplicaRouting implements BeanPostProcessor, SmartInitializingSingleton, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouting.class);
+
+    private final HikariDataSource replica;
+    private final long maxLagMillis;
+    private final long heartbeatMillis;
+
+    private DataSource primary;
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ScheduledExecutorService executor;
+
+    private volatile boolean available;
+    private volatile long lagMillis = -1;
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+
+    public ReplicaRouting(
+            @Value("${bankapi.replica.url}") String url,
+            @Value("${bankapi.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${bankapi.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${bankapi.replica.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+            @Value("${bankapi.replica.connection-timeout-millis:1000}") long connectionTimeoutMillis,
+            @Value("${bankapi.replica.max-lag-millis:5000}") long maxLagMillis,
+            @Value("${bankapi.replica.heartbeat-millis:1000}") long heartbeatMillis) {
+        this.replica = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url).username(username).password(password).build();
+        this.replica.setPoolName("replica");
+        this.replica.setMaximumPoolSize(poolSize);
+        this.replica.setConnectionTimeout(connectionTimeoutMillis);
+        this.replica.setReadOnly(true);
+        this.maxLagMillis = maxLagMillis;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+            primary = dataSource;
+            var proxy = new LazyConnectionDataSourceProxy(dataSource);
+            proxy.setReadOnlyDataSource(new ReplicaDataSource(replica, dataSource, this));
+            return proxy;
+        }
+        return bean;
+    }
+
+    /**
+     * Inicia o batimento e a verificação da réplica, após a criação do esquema
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (primary == null)
+            throw new IllegalStateException("bankapi.replica.enabled requer o DataSource principal (dataSource)");
+
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+
+        beat();
+        check();
+        executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "replica-heartbeat"));
+        executor.scheduleWithFixedDelay(() -> {
+            beat();
+            check();
+        }, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        replica.close();
+    }
+
+    /**
+     * Grava o batimento no banco principal
+     */
+    void beat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primaryJdbc.update("update tb_replica_heartbeat set beat_millis = ? where id = ?", now,
+                    ReplicaHeartbeat.ID) == 0)
+                primaryJdbc.update("insert into tb_replica_heartbeat (id, beat_millis) values (?, ?)",
+                        ReplicaHeartbeat.ID, now);
+        } catch (DataAccessException ex) {
+            // Outra instância criou o batimento ao mesmo tempo, ou o banco principal
+            // está fora do ar: a próxima tentativa o atualiza
+            log.debug("Falha ao gravar o batimento da réplica", ex);
+        }
+    }
+
+    /**
+     * Mede o atraso da réplica pelo último batimento que chegou a ela
+     */
+    void check() {
+        try {
+            long beat = replicaJdbc.queryForObject("select beat_millis from tb_replica_heartbeat where id = ?",
+                    Long.class, ReplicaHeartbeat.ID);
+            lagMillis = Math.max(0, System.currentTimeMillis() - beat);
+
+            if (lagMillis <= maxLagMillis)
+                setAvailable(true, null);
+            else
+                setAvailable(false, "atraso de " + lagMillis + " ms");
+        } catch (DataAccessException ex) {
+            lagMillis = -1;
+            setAvailable(false, ex.getMessage());
+        }
+    }
+
+    private void setAvailable(boolean value, String reason) {
+        if (available == value)
+            return;
+        available = value;
+
+        if (value)
+            log.info("Réplica disponível: leituras voltam à réplica");
+        else
+            log.warn("Réplica indisponível ({}): leituras no banco principal", reason);
+    }
+
+    boolean available() {
+        return available;
+    }
+
+    void unavailable(Exception ex) {
+        setAvailable(false, ex.getMessage());
+    }
+
+    void servedByReplica() {
+        replicaReads.incrementAndGet();
+    }
+
+    void servedByPrimary() {
+        primaryReads.incrementAndGet();
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    public long replicaReads() {
+        return replicaReads.get();
+    }
+
+    public long primaryReads() {
+        return primaryReads.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bankapi.replica.lag", this, ReplicaRouting::lagMillis).baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("bankapi.replica.available", this, r -> r.available() ? 1 : 0).register(registry);
+        FunctionCounter.builder("bankapi.replica.reads", this, ReplicaRouting::replicaReads)
+                .tag("served-by", "replica").register(registry);
+        FunctionCounter.builder("bankapi.replica.reads", this, ReplicaRouting::primaryReads)
+                .tag("served-by", "primary").register(registry);
+    }
+}
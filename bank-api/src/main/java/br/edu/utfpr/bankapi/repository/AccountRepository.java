@@ -1,11 +1,125 @@
 package br.edu.utfpr.bankapi.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import br.edu.utfpr.bankapi.model.Account;
+import jakarta.persistence.LockModeType;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
     public Optional<Account> getByNumber(long number);
+
+    public boolean existsByNumber(long number);
+
+    /**
+     * Débito condicional em um único UPDATE: só altera a conta se o saldo mais
+     * o limite cobrir o valor
+     * 
+     * @return 1 se debitou; 0 se a conta não existe ou não tem saldo
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Account a set a.balance = a.balance - :amount, a.version = a.version + 1
+            where a.number = :number and a.balance + a.specialLimit >= :amount""")
+    public int debit(long number, long amount);
+
+    /**
+     * Débito condicional que considera também os sub-saldos das contas quentes
+     * (bankapi.hot-accounts.enabled=true)
+     * 
+     * @return 1 se debitou; 0 se a conta não existe ou não tem saldo
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Account a set a.balance = a.balance - :amount, a.version = a.version + 1
+            where a.number = :number and a.balance + a.specialLimit
+                + (select coalesce(sum(s.balance), 0) from AccountSlot s where s.key.accountId = a.id) >= :amount""")
+    public int debitWithSlots(long number, long amount);
+
+    /**
+     * Crédito atômico (balance = balance + valor)
+     * 
+     * @return 1 se creditou; 0 se a conta não existe
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Account a set a.balance = a.balance + :amount, a.version = a.version + 1
+            where a.number = :number""")
+    public int credit(long number, long amount);
+
+    /**
+     * Altera a quantidade de sub-saldos da conta, somando à coluna balance o
+     * saldo dos sub-saldos removidos
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Account a set a.balance = a.balance + :amount, a.balanceSlots = :slots,
+                a.version = a.version + 1
+            where a.number = :number""")
+    public int resizeSlots(long number, int slots, long amount);
+
+    public List<Account> findByBalanceSlotsGreaterThan(int slots);
+
+    /**
+     * Busca a conta bloqueando a linha até o fim da transação (SELECT ... FOR
+     * UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.number = :number")
+    public Optional<Account> getByNumberForUpdate(long number);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id = :id")
+    public Optional<Account> findByIdForUpdate(long id);
+
+    /**
+     * Paginação por chave (keyset): contas com id maior que o último da página
+     * anterior
+     */
+    public List<Account> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    public List<Account> findByNumberIn(Collection<Long> numbers);
+
+    /**
+     * Números, dentre os informados, que já pertencem a alguma conta
+     */
+    @Query("select a.number from Account a where a.number in :numbers")
+    public List<Long> findNumbersIn(Collection<Long> numbers);
+
+    /**
+     * Busca e bloqueia várias contas, em ordem de número para evitar deadlock
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.number in :numbers order by a.number")
+    public List<Account> findByNumberInForUpdate(Collection<Long> numbers);
+
+    /**
+     * Busca e bloqueia várias contas pela chave primária, também em ordem de
+     * número
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id in :ids order by a.number")
+    public List<Account> findByIdInForUpdate(Collection<Long> ids);
+
+    @Query("select min(a.id) from Account a")
+    public Optional<Long> findMinId();
+
+    @Query("select max(a.id) from Account a")
+    public Optional<Long> findMaxId();
+
+    @Query("select a.number from Account a where a.id between :first and :last")
+    public List<Long> findNumbersByIdBetween(long first, long last);
+
+    public List<Account> findByIdBetweenOrderByIdAsc(long first, long last);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id between :first and :last order by a.id")
+    public List<Account> findByIdBetweenForUpdate(long first, long last);
 }
@@ -0,0 +1,39 @@
+package br.edu.utfpr.bankapi.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import br.edu.utfpr.bankapi.model.AccountSlot;
+import jakarta.persistence.LockModeType;
+
+public interface AccountSlotRepository extends JpaRepository<AccountSlot, AccountSlot.Key> {
+
+    /**
+     * Crédito atômico em um sub-saldo
+     * 
+     * @return 1 se creditou; 0 se o sub-saldo não existe (ex.: foi removido)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update AccountSlot s set s.balance = s.balance + :amount
+            where s.key.accountId = :accountId and s.key.slot = :slot""")
+    public int credit(long accountId, int slot, long amount);
+
+    @Query("select coalesce(sum(s.balance), 0) from AccountSlot s where s.key.accountId = :accountId")
+    public long sumBalance(long accountId);
+
+    /**
+     * Busca e bloqueia os sub-saldos a partir de slot (inclusive)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountSlot s where s.key.accountId = :accountId and s.key.slot >= :slot")
+    public List<AccountSlot> findFromSlotForUpdate(long accountId, int slot);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from AccountSlot s where s.key.accountId = :accountId and s.key.slot >= :slot")
+    public int deleteFromSlot(long accountId, int slot);
+}
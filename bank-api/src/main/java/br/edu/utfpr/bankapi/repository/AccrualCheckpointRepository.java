@@ -0,0 +1,14 @@
+package br.edu.utfpr.bankapi.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import br.edu.utfpr.bankapi.model.AccrualCheckpoint;
+
+public interface AccrualCheckpointRepository extends JpaRepository<AccrualCheckpoint, AccrualCheckpoint.Key> {
+
+    @Query("select c.key.firstId from AccrualCheckpoint c where c.key.period = :period")
+    public List<Long> findCompletedBlocks(String period);
+}
@@ -0,0 +1,26 @@
+package br.edu.utfpr.bankapi.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import br.edu.utfpr.bankapi.model.BalanceSnapshot;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, BalanceSnapshot.Key> {
+
+    public Optional<BalanceSnapshot> findFirstByKeyAccountIdOrderByKeyLastSequenceDesc(long accountId);
+
+    /**
+     * Último snapshot até a data (o saldo em {@code at} parte dele)
+     */
+    public Optional<BalanceSnapshot> findFirstByKeyAccountIdAndDateTimeLessThanEqualOrderByDateTimeDescKeyLastSequenceDesc(
+            long accountId, LocalDateTime at);
+
+    /**
+     * Primeiro snapshot após a data (os lançamentos seguintes a ele são todos
+     * posteriores a {@code at})
+     */
+    public Optional<BalanceSnapshot> findFirstByKeyAccountIdAndDateTimeGreaterThanOrderByDateTimeAscKeyLastSequenceAsc(
+            long accountId, LocalDateTime at);
+}
@@ -0,0 +1,51 @@
+package br.edu.utfpr.bankapi.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import br.edu.utfpr.bankapi.dto.AggregateTotalDTO;
+import br.edu.utfpr.bankapi.model.DailyAggregate;
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+public interface DailyAggregateRepository extends JpaRepository<DailyAggregate, DailyAggregate.Key> {
+
+    /**
+     * Soma os valores ao agregado do dia (atômico, sem ler a linha)
+     * 
+     * @return 1 se somou; 0 se o agregado ainda não existe
+     */
+    @Modifying
+    @Query("""
+            update DailyAggregate d set d.credited = d.credited + :credited, d.debited = d.debited + :debited,
+                d.transactions = d.transactions + :transactions
+            where d.key.accountId = :accountId and d.key.day = :day and d.key.type = :type""")
+    public int add(long accountId, LocalDate day, TransactionType type, long credited, long debited,
+            long transactions);
+
+    /**
+     * Totais por tipo no período [from, to]
+     */
+    @Query("""
+            select new br.edu.utfpr.bankapi.dto.AggregateTotalDTO(d.key.type, sum(d.credited), sum(d.debited),
+                sum(d.transactions))
+            from DailyAggregate d
+            where d.key.accountId = :accountId and d.key.day between :from and :to
+            group by d.key.type
+            order by d.key.type""")
+    public List<AggregateTotalDTO> totals(long accountId, LocalDate from, LocalDate to);
+
+    /**
+     * Agregados de cada dia do período [from, to]
+     */
+    @Query("""
+            select new br.edu.utfpr.bankapi.dto.AggregateTotalDTO(d.key.day, d.key.type, d.credited, d.debited,
+                d.transactions)
+            from DailyAggregate d
+            where d.key.accountId = :accountId and d.key.day between :from and :to
+            order by d.key.day, d.key.type""")
+    public List<AggregateTotalDTO> daily(long accountId, LocalDate from, LocalDate to);
+}
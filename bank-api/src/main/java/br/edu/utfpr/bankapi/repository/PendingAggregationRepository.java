@@ -0,0 +1,25 @@
+package br.edu.utfpr.bankapi.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import br.edu.utfpr.bankapi.model.PendingAggregation;
+
+public interface PendingAggregationRepository extends JpaRepository<PendingAggregation, Long> {
+
+    @Query("select p.transactionId from PendingAggregation p order by p.transactionId")
+    public List<Long> findTransactionIds(Limit limit);
+
+    /**
+     * @return quantidade de linhas removidas (menor que ids.size() se outra
+     *         instância já as removeu)
+     */
+    @Modifying
+    @Query("delete from PendingAggregation p where p.transactionId in :ids")
+    public int deleteByTransactionIds(Collection<Long> ids);
+}
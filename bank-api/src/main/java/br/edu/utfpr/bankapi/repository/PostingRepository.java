@@ -0,0 +1,38 @@
+package br.edu.utfpr.bankapi.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import br.edu.utfpr.bankapi.ledger.PostingSummary;
+import br.edu.utfpr.bankapi.model.Posting;
+
+public interface PostingRepository extends JpaRepository<Posting, Long> {
+
+    /**
+     * Soma, último lançamento e quantidade dos lançamentos da conta posteriores
+     * a {@code after}
+     */
+    @Query("""
+            select new br.edu.utfpr.bankapi.ledger.PostingSummary(
+                coalesce(sum(p.amount), 0), coalesce(max(p.accountSequence), :after), count(p))
+            from Posting p where p.accountId = :accountId and p.accountSequence > :after""")
+    public PostingSummary summarize(long accountId, long after);
+
+    /**
+     * Soma dos lançamentos da conta entre {@code after} (exclusive) e
+     * {@code until} (inclusive) com data até {@code at}
+     */
+    @Query("""
+            select coalesce(sum(p.amount), 0) from Posting p
+            where p.accountId = :accountId and p.accountSequence > :after and p.accountSequence <= :until
+                and p.dateTime <= :at""")
+    public long sumUntil(long accountId, long after, long until, LocalDateTime at);
+
+    @Query("select coalesce(max(p.accountSequence), 0) from Posting p where p.accountId = :accountId")
+    public long findLastSequence(long accountId);
+
+    public Optional<Posting> findByAccountIdAndAccountSequence(long accountId, long accountSequence);
+}
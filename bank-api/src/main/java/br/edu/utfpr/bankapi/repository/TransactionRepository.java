@@ -1,9 +1,59 @@
 package br.edu.utfpr.bankapi.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import br.edu.utfpr.bankapi.dto.TransactionHistoryDTO;
 import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    /**
+     * Transações em que a conta é a origem, anteriores à posição (dateTime, id)
+     * do cursor, usando o índice (source_account_id, date_time, id)
+     */
+    @Query("""
+            select new br.edu.utfpr.bankapi.dto.TransactionHistoryDTO(
+                t.id, t.type, t.amount, t.dateTime, s.number, r.number)
+            from Transaction t join t.sourceAccount s left join t.receiverAccount r
+            where s.id = :accountId
+                and t.dateTime >= :from
+                and (t.dateTime < :beforeDate or (t.dateTime = :beforeDate and t.id < :beforeId))
+                and (:type is null or t.type = :type)
+            order by t.dateTime desc, t.id desc
+            """)
+    List<TransactionHistoryDTO> findHistoryAsSource(long accountId, LocalDateTime from,
+            LocalDateTime beforeDate, long beforeId, TransactionType type, Limit limit);
+
+    /**
+     * Transações em que a conta é o destino, usando o índice
+     * (receiver_account_id, date_time, id)
+     */
+    @Query("""
+            select new br.edu.utfpr.bankapi.dto.TransactionHistoryDTO(
+                t.id, t.type, t.amount, t.dateTime, s.number, r.number)
+            from Transaction t join t.receiverAccount r left join t.sourceAccount s
+            where r.id = :accountId
+                and t.dateTime >= :from
+                and (t.dateTime < :beforeDate or (t.dateTime = :beforeDate and t.id < :beforeId))
+                and (:type is null or t.type = :type)
+            order by t.dateTime desc, t.id desc
+            """)
+    List<TransactionHistoryDTO> findHistoryAsReceiver(long accountId, LocalDateTime from,
+            LocalDateTime beforeDate, long beforeId, TransactionType type, Limit limit);
+
+    /**
+     * Transações com as contas, lidas em uma consulta (agregados diários)
+     */
+    @Query("""
+            select t from Transaction t left join fetch t.sourceAccount left join fetch t.receiverAccount
+            where t.id in :ids
+            """)
+    List<Transaction> findWithAccountsByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,308 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.utfpr.bankapi.dto.AccountDTO;
+import br.edu.utfpr.bankapi.dto.AccountImportErrorDTO;
+import br.edu.utfpr.bankapi.dto.AccountImportResultDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Money;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
+
+/**
+ * Importação de contas em massa (CSV ou NDJSON).
+ *
+ * As linhas são lidas à medida que chegam e gravadas em blocos de
+ * {@code bankapi.account-import.chunk-size} contas: cada bloco é validado
+ * (restrições de AccountDTO e números repetidos no próprio bloco), consulta em
+ * uma única query os números que já existem no banco e insere as contas
+ * restantes em uma transação, em um único JDBC batch. Os blocos anteriores já
+ * estão gravados, de modo que um número repetido em qualquer ponto do arquivo
+ * é encontrado no banco, com memória constante.
+ *
+ * Como em AccountService.save, as contas são criadas com saldo 0 (a coluna
+ * balance do arquivo é ignorada).
+ */
+@Service
+public class AccountImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountImportService.class);
+
+    /**
+     * Linha lida do arquivo: a conta ou o erro de leitura
+     */
+    public record Line(long line, AccountDTO account, String error) {
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${bankapi.account-import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${bankapi.account-import.max-attempts:3}")
+    private int maxAttempts;
+
+    /**
+     * Lê o CSV, cuja primeira linha é o cabeçalho, com as colunas name, number
+     * e, opcionalmente, specialLimit (em reais), em qualquer ordem
+     *
+     * @throws IllegalArgumentException se o cabeçalho for inválido
+     */
+    public Iterator<Line> readCsv(BufferedReader reader) throws IOException {
+        var header = reader.readLine();
+        if (header == null)
+            throw new IllegalArgumentException("CSV vazio");
+
+        var columns = splitCsv(header).stream().map(String::trim).toList();
+        int name = columns.indexOf("name");
+        int number = columns.indexOf("number");
+        int specialLimit = columns.indexOf("specialLimit");
+        if (name < 0 || number < 0)
+            throw new IllegalArgumentException("Cabeçalho do CSV deve conter as colunas name e number");
+
+        return lines(reader, 2, text -> {
+            var fields = splitCsv(text);
+            var limit = field(fields, specialLimit);
+            try {
+                return new AccountDTO(field(fields, name),
+                        field(fields, number).isBlank() ? null : Long.parseLong(field(fields, number).trim()),
+                        0, limit.isBlank() ? 0 : Money.ofUnits(Double.parseDouble(limit.trim())));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Valor numérico inválido: " + ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Lê o NDJSON (um AccountDTO por linha)
+     */
+    public Iterator<Line> readNdjson(BufferedReader reader) {
+        return lines(reader, 1, text -> {
+            try {
+                return objectMapper.readValue(text, AccountDTO.class);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalArgumentException("JSON inválido: " + ex.getOriginalMessage());
+            }
+        });
+    }
+
+    /**
+     * Importa as contas, entregando as linhas rejeitadas de cada bloco, em
+     * ordem, assim que o bloco é gravado
+     */
+    public AccountImportResultDTO importAccounts(Iterator<Line> lines, Consumer<AccountImportErrorDTO> errors) {
+        long imported = 0;
+        long rejected = 0;
+        var chunk = new ArrayList<Line>(chunkSize);
+
+        while (lines.hasNext()) {
+            chunk.add(lines.next());
+
+            if (chunk.size() == chunkSize || !lines.hasNext()) {
+                var chunkErrors = importChunk(chunk);
+                chunkErrors.forEach(errors);
+                imported += chunk.size() - chunkErrors.size();
+                rejected += chunkErrors.size();
+                chunk.clear();
+            }
+        }
+
+        return new AccountImportResultDTO(imported, rejected);
+    }
+
+    private List<AccountImportErrorDTO> importChunk(List<Line> chunk) {
+        var results = new AccountImportErrorDTO[chunk.size()];
+        var numbers = new HashSet<Long>();
+        var valid = new ArrayList<Integer>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            var line = chunk.get(i);
+            var error = validate(line);
+            if (error == null && !numbers.add(line.account().number()))
+                error = "Conta " + line.account().number() + " repetida no arquivo";
+
+            if (error != null)
+                results[i] = new AccountImportErrorDTO(line.line(),
+                        line.account() != null ? line.account().number() : null, error);
+            else
+                valid.add(i);
+        }
+
+        // Outra requisição pode criar uma conta com o mesmo número ao mesmo
+        // tempo: a transação é desfeita e o bloco, gravado de novo
+        for (int attempt = 1;; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(chunk, valid, numbers, results));
+                break;
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt >= maxAttempts)
+                    throw ex;
+                log.debug("Conta criada concorrentemente, nova tentativa ({})", attempt);
+            }
+        }
+
+        var errors = new ArrayList<AccountImportErrorDTO>();
+        for (var result : results)
+            if (result != null)
+                errors.add(result);
+        return errors;
+    }
+
+    private void insert(List<Line> chunk, List<Integer> valid, Set<Long> numbers,
+            AccountImportErrorDTO[] results) {
+        Set<Long> existing = numbers.isEmpty() ? Set.of() : new HashSet<>(accountRepository.findNumbersIn(numbers));
+        var accounts = new ArrayList<Account>(valid.size());
+
+        for (int i : valid) {
+            var line = chunk.get(i);
+            var account = new Account(line.account());
+            account.setBalance(0);
+
+            if (existing.contains(account.getNumber()))
+                results[i] = new AccountImportErrorDTO(line.line(), account.getNumber(),
+                        "Conta " + account.getNumber() + " já existe");
+            else {
+                results[i] = null; // limpa o resultado de uma tentativa anterior
+                accounts.add(account);
+            }
+        }
+
+        // O bloco inteiro em um único JDBC batch
+        entityManager.unwrap(Session.class).setJdbcBatchSize(Math.max(chunkSize, 1));
+        accountRepository.saveAll(accounts);
+        accountRepository.flush();
+    }
+
+    private String validate(Line line) {
+        if (line.error() != null)
+            return line.error();
+
+        var violations = validator.validate(line.account());
+        if (violations.isEmpty())
+            return null;
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Linhas não vazias do arquivo, numeradas a partir de firstLine
+     */
+    private static Iterator<Line> lines(BufferedReader reader, long firstLine, Function<String, AccountDTO> parser) {
+        return new Iterator<>() {
+            private long number = firstLine - 1;
+            private String next = advance();
+
+            private String advance() {
+                try {
+                    String text;
+                    do {
+                        text = reader.readLine();
+                        number++;
+                    } while (text != null && text.isBlank());
+                    return text;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Line next() {
+                if (next == null)
+                    throw new NoSuchElementException();
+
+                long line = number;
+                try {
+                    return new Line(line, parser.apply(next), null);
+                } catch (IllegalArgumentException ex) {
+                    return new Line(line, null, ex.getMessage());
+                } finally {
+                    next = advance();
+                }
+            }
+        };
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index >= 0 && index < fields.size() ? fields.get(index) : "";
+    }
+
+    /**
+     * Separa os campos de uma linha CSV (RFC 4180: campos entre aspas podem
+     * conter vírgulas e aspas duplicadas)
+     */
+    static List<String> splitCsv(String line) {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"')
+                    field.append(c);
+                else if (i + 1 < line.length() && line.charAt(i + 1) == '"')
+                    field.append(line.charAt(++i));
+                else
+                    quoted = false;
+            } else if (c == '"')
+                quoted = true;
+            else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else
+                field.append(c);
+        }
+
+        if (quoted)
+            throw new IllegalArgumentException("Aspas não fechadas");
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -1,16 +1,36 @@
 package br.edu.utfpr.bankapi.service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.edu.utfpr.bankapi.aggregates.DailyAggregates;
+import br.edu.utfpr.bankapi.cache.AccountCache;
+import br.edu.utfpr.bankapi.concurrency.HotAccounts;
 import br.edu.utfpr.bankapi.dto.AccountDTO;
+import br.edu.utfpr.bankapi.dto.AccountPageDTO;
+import br.edu.utfpr.bankapi.dto.AggregateReportDTO;
+import br.edu.utfpr.bankapi.dto.BalanceDTO;
 import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.journal.TransactionJournal;
+import br.edu.utfpr.bankapi.ledger.PostingLedger;
+import br.edu.utfpr.bankapi.metrics.OperationMetrics;
 import br.edu.utfpr.bankapi.model.Account;
 import br.edu.utfpr.bankapi.repository.AccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class AccountService {
@@ -18,22 +38,163 @@ public class AccountService {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired(required = false)
+    private AccountCache accountCache;
+
+    @Autowired
+    private OperationMetrics metrics;
+
+    // Presente apenas com bankapi.ledger.enabled=true: o saldo é derivado dos
+    // lançamentos
+    @Autowired(required = false)
+    private PostingLedger ledger;
+
+    // Presente apenas com bankapi.hot-accounts.enabled=true
+    @Autowired(required = false)
+    private HotAccounts hotAccounts;
+
+    // Presente apenas com bankapi.journal.enabled=true: o saldo do banco ainda
+    // não inclui as operações pendentes no journal
+    @Autowired(required = false)
+    private TransactionJournal transactionJournal;
+
+    // Presente apenas com bankapi.aggregates.enabled=true
+    @Autowired(required = false)
+    private DailyAggregates dailyAggregates;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${bankapi.account.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${bankapi.account.max-page-size:1000}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
     public Optional<Account> getByNumber(long number) {
-        return accountRepository.getByNumber(number);
+        return find(number).map(this::withBalance);
+    }
+
+    /**
+     * Lê a conta pela chave primária quando o id está no AccountCache; senão,
+     * pelo número, guardando o id no cache
+     */
+    private Optional<Account> find(long number) {
+        var id = accountCache != null ? accountCache.getId(number) : null;
+        if (id != null) {
+            var account = accountRepository.findById(id);
+            if (account.isPresent() && account.get().getNumber() == number)
+                return account;
+
+            // A conta foi removida ou mudou de número desde que foi guardada
+            accountCache.invalidate(number);
+        }
+
+        var account = accountRepository.getByNumber(number);
+        if (accountCache != null)
+            account.ifPresent(found -> accountCache.put(number, found.getId()));
+        return account;
     }
 
+    @Transactional(readOnly = true)
     public List<Account> getAll() {
-        return accountRepository.findAll();
+        return accountRepository.findAll().stream().map(this::withBalance).toList();
+    }
+
+    /**
+     * Saldo da conta agora ou, no modo ledger, em uma data anterior
+     */
+    @Transactional(readOnly = true)
+    public BalanceDTO getBalance(long number, LocalDateTime at) throws NotFoundException {
+        var account = find(number).orElseThrow(NotFoundException::new);
+
+        if (at == null)
+            return new BalanceDTO(number, withBalance(account).getBalance(), LocalDateTime.now());
+        if (ledger == null)
+            throw new IllegalArgumentException("Saldo em data anterior requer bankapi.ledger.enabled=true");
+        return new BalanceDTO(number, ledger.balanceAt(account, at), at);
+    }
+
+    /**
+     * Movimento da conta no período, a partir dos agregados diários
+     */
+    @Transactional(readOnly = true)
+    public AggregateReportDTO getAggregates(long number, LocalDate from, LocalDate to, boolean daily)
+            throws NotFoundException {
+        if (dailyAggregates == null)
+            throw new IllegalArgumentException("Agregados diários requerem bankapi.aggregates.enabled=true");
+
+        var account = find(number).orElseThrow(NotFoundException::new);
+        return dailyAggregates.report(account, from, to, daily);
+    }
+
+    /**
+     * Saldo completo da conta: com os sub-saldos, nas contas quentes, somado às
+     * operações ainda não gravadas, no modo journal, ou derivado dos
+     * lançamentos, no modo ledger
+     */
+    private Account withBalance(Account account) {
+        if (transactionJournal != null)
+            return transactionJournal.view(account);
+        if (hotAccounts != null)
+            return hotAccounts.withSlots(account);
+        return ledger != null ? ledger.view(account) : account;
     }
 
-    public Account save(Account account2) {
+    /**
+     * Página de contas em ordem de id, a partir do cursor (paginação por chave:
+     * o custo não depende da posição da página)
+     */
+    @Transactional(readOnly = true)
+    public AccountPageDTO getPage(String cursor, int size) {
+        long afterId = cursor == null || cursor.isBlank() ? 0 : decodeCursor(cursor);
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+
+        var items = accountRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit))
+                .stream().map(this::withBalance).toList();
+        var next = items.size() < limit ? null : encodeCursor(items.get(items.size() - 1).getId());
+
+        return new AccountPageDTO(items, next);
+    }
+
+    /**
+     * Percorre todas as contas com um cursor no servidor, lendo
+     * {@code bankapi.account.fetch-size} linhas por vez. Cada conta é removida
+     * do contexto de persistência após o uso, mantendo a memória constante.
+     */
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Account> consumer) {
+        try (Stream<Account> accounts = entityManager
+                .createQuery("select a from Account a order by a.id", Account.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            accounts.forEach(account -> {
+                consumer.accept(withBalance(account));
+                entityManager.detach(account);
+            });
+        }
+    }
+
+    private static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes());
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor)));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    public Account save(AccountDTO dto) {
         var account = new Account();
-        BeanUtils.copyProperties(account2, account);
+        BeanUtils.copyProperties(dto, account);
 
         account.setBalance(0); // Inicializar a conta com saldo 0.
 
-        System.out.println(account);
-
         // Salva a conta
         return accountRepository.save(account);
     }
@@ -46,29 +207,37 @@ public class AccountService {
      * @throws NotFoundException
      */
     public Account update(long id, AccountDTO dto) throws NotFoundException {
-        var res = accountRepository.findById(id);
+        return metrics.time("update", () -> applyUpdate(id, dto));
+    }
+
+    private Account applyUpdate(long id, AccountDTO dto) throws NotFoundException {
+        var res = metrics.step("update", OperationMetrics.ACCOUNT_LOOKUP, () -> accountRepository.findById(id));
 
         if (res.isEmpty())
             throw new NotFoundException();
 
         var account = res.get();
+
+        // O número da conta pode mudar: remove o número antigo do cache
+        if (accountCache != null)
+            accountCache.invalidate(account.getNumber());
+
         account.setName(dto.name());
         account.setNumber(dto.number());
         account.setSpecialLimit(dto.specialLimit());
 
-        System.out.println(account);
-
         // Salva a conta
-        return accountRepository.save(account);
-    }
-
-    public void update(Account account) {
-      // TODO Auto-generated method stub
-      throw new UnsupportedOperationException("Unimplemented method 'update'");
+        return withBalance(
+                metrics.step("update", OperationMetrics.PERSISTENCE, () -> accountRepository.save(account)));
     }
 
-    public void save(Account account) {
-      // TODO Auto-generated method stub
-      throw new UnsupportedOperationException("Unimplemented method 'save'");
+    /**
+     * Divide o saldo da conta em sub-saldos (conta quente) ou, com 0, volta a
+     * conta ao normal
+     */
+    public Account setSlots(long number, int slots) throws NotFoundException {
+        if (hotAccounts == null)
+            throw new IllegalArgumentException("Contas quentes requerem bankapi.hot-accounts.enabled=true");
+        return hotAccounts.resize(number, slots);
     }
 }
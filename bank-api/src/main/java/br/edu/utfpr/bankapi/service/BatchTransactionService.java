@@ -0,0 +1,313 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.utfpr.bankapi.aggregates.DailyAggregates;
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
+import br.edu.utfpr.bankapi.concurrency.HotAccounts;
+import br.edu.utfpr.bankapi.dto.BatchOperationDTO;
+import br.edu.utfpr.bankapi.dto.BatchResultDTO;
+import br.edu.utfpr.bankapi.events.TransactionEventBus;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import br.edu.utfpr.bankapi.journal.TransactionJournal;
+import br.edu.utfpr.bankapi.ledger.PostingLedger;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Money;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import br.edu.utfpr.bankapi.validations.AvailableBalanceValidation;
+
+/**
+ * Processa lotes de transferências, depósitos e saques.
+ * 
+ * As operações são aplicadas em ordem, em blocos (chunks) de tamanho
+ * configurável: cada bloco busca todas as contas referenciadas em uma única
+ * consulta e é gravado em uma única transação, permitindo o envio em lote
+ * (JDBC batch) das transações e das atualizações de saldo.
+ *
+ * Toda operação recebe um resultado: se a gravação de um bloco falhar, o bloco
+ * é desfeito, as suas operações são rejeitadas e os blocos seguintes continuam
+ * sendo processados.
+ */
+@Service
+public class BatchTransactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchTransactionService.class);
+
+    /**
+     * Operação lida do lote ou o erro de leitura
+     */
+    public record Line(BatchOperationDTO operation, String error) {
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AvailableBalanceValidation availableBalanceValidation;
+
+    @Autowired
+    private AccountLockStrategy accountLockStrategy;
+
+    // Presente apenas com bankapi.journal.enabled=true
+    @Autowired(required = false)
+    private TransactionJournal transactionJournal;
+
+    // Presente apenas com bankapi.ledger.enabled=true
+    @Autowired(required = false)
+    private PostingLedger ledger;
+
+    // Presente apenas com bankapi.aggregates.enabled=true
+    @Autowired(required = false)
+    private DailyAggregates dailyAggregates;
+
+    // Presente apenas com bankapi.hot-accounts.enabled=true
+    @Autowired(required = false)
+    private HotAccounts hotAccounts;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Efeitos secundários (auditoria, métricas, log) fora da requisição
+    @Autowired(required = false)
+    private TransactionEventBus eventBus;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${bankapi.batch.chunk-size:500}")
+    private int chunkSize;
+
+    public List<BatchResultDTO> process(List<BatchOperationDTO> operations) {
+        var results = new ArrayList<BatchResultDTO>(operations.size());
+        var lines = operations.stream()
+                .map(op -> op != null ? new Line(op, null) : new Line(null, "Operação não informada"))
+                .iterator();
+        process(lines, results::add);
+        return results;
+    }
+
+    /**
+     * Lê o NDJSON (uma operação por linha; linhas em branco são ignoradas). Uma
+     * linha inválida vira um erro na sua posição, sem interromper o lote.
+     */
+    public Iterator<Line> readNdjson(BufferedReader reader) {
+        return new Iterator<>() {
+            private String next = advance();
+
+            private String advance() {
+                try {
+                    String line;
+                    do {
+                        line = reader.readLine();
+                    } while (line != null && line.isBlank());
+                    return line;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Line next() {
+                if (next == null)
+                    throw new NoSuchElementException();
+                try {
+                    return new Line(objectMapper.readValue(next, BatchOperationDTO.class), null);
+                } catch (JsonProcessingException ex) {
+                    return new Line(null, "JSON inválido: " + ex.getOriginalMessage());
+                } finally {
+                    next = advance();
+                }
+            }
+        };
+    }
+
+    /**
+     * Processa as operações à medida que são lidas, entregando os resultados de
+     * cada bloco assim que ele é gravado
+     */
+    public void process(Iterator<Line> operations, Consumer<BatchResultDTO> results) {
+        long index = 0;
+        var chunk = new ArrayList<Line>(chunkSize);
+
+        while (operations.hasNext()) {
+            chunk.add(operations.next());
+
+            if (chunk.size() == chunkSize || !operations.hasNext()) {
+                processChunk(chunk, index).forEach(results);
+                index += chunk.size();
+                chunk.clear();
+            }
+        }
+    }
+
+    private List<BatchResultDTO> processChunk(List<Line> chunk, long firstIndex) {
+        var numbers = new TreeSet<Long>();
+        for (var line : chunk) {
+            var op = line.operation();
+            if (op == null)
+                continue;
+            if (op.sourceAccountNumber() != null)
+                numbers.add(op.sourceAccountNumber());
+            if (op.receiverAccountNumber() != null)
+                numbers.add(op.receiverAccountNumber());
+        }
+
+        var lockedNumbers = numbers.stream().mapToLong(Long::longValue).toArray();
+
+        try {
+            return accountLockStrategy.execute(
+                    () -> transactionTemplate.execute(status -> applyChunk(chunk, firstIndex, numbers)),
+                    lockedNumbers);
+        } catch (RuntimeException | NotFoundException ex) {
+            // Os blocos anteriores já foram gravados: só as operações deste bloco
+            // são rejeitadas
+            log.warn("Bloco do lote não gravado (operações {} a {})", firstIndex, firstIndex + chunk.size() - 1, ex);
+            var results = new ArrayList<BatchResultDTO>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++)
+                results.add(BatchResultDTO.rejected(firstIndex + i, "Bloco não gravado: " + ex.getMessage()));
+            return results;
+        }
+    }
+
+    private List<BatchResultDTO> applyChunk(List<Line> chunk, long firstIndex, TreeSet<Long> numbers) {
+        // Busca todas as contas do bloco em uma única consulta
+        var found = accountLockStrategy.lockOnRead()
+                ? accountRepository.findByNumberInForUpdate(numbers)
+                : accountRepository.findByNumberIn(numbers);
+
+        Map<Long, Account> accounts = new HashMap<>();
+        // No modo ledger, as operações alteram cópias das contas (a linha não é
+        // atualizada) e geram lançamentos; nas contas quentes, o saldo inclui
+        // os sub-saldos
+        for (var account : found)
+            accounts.put(account.getNumber(), ledger != null ? ledger.view(account)
+                    : hotAccounts != null ? hotAccounts.withSlots(account) : account);
+
+        var results = new ArrayList<BatchResultDTO>(chunk.size());
+        var transactions = new ArrayList<Transaction>(chunk.size());
+        var positions = new ArrayList<Long>(chunk.size());
+
+        long index = firstIndex;
+        for (var line : chunk) {
+            if (line.error() != null) {
+                results.add(BatchResultDTO.rejected(index++, line.error()));
+                continue;
+            }
+
+            try {
+                transactions.add(apply(line.operation(), accounts));
+                positions.add(index);
+                results.add(null); // preenchido após a gravação
+            } catch (NotFoundException | WithoutBalanceException | IllegalArgumentException ex) {
+                results.add(BatchResultDTO.rejected(index, ex.getMessage()));
+            }
+            index++;
+        }
+
+        // Grava as transações do bloco; as contas alteradas são gravadas no commit
+        transactionRepository.saveAll(transactions);
+        if (ledger != null)
+            ledger.post(transactions);
+        if (dailyAggregates != null)
+            dailyAggregates.enqueue(transactions);
+        transactionRepository.flush();
+
+        if (eventBus != null)
+            transactions.forEach(eventBus::publishAfterCommit);
+
+        for (int i = 0; i < transactions.size(); i++) {
+            long position = positions.get(i);
+            results.set((int) (position - firstIndex), BatchResultDTO.ok(position, transactions.get(i).getId()));
+        }
+
+        return results;
+    }
+
+    private Transaction apply(BatchOperationDTO op, Map<Long, Account> accounts) throws NotFoundException {
+        if (op.type() == null)
+            throw new IllegalArgumentException("Tipo de operação não informado");
+
+        var transaction = new Transaction();
+        transaction.setType(op.type());
+        transaction.setAmount(op.amount());
+
+        switch (op.type()) {
+            case TRANSFER -> {
+                transaction.setSourceAccount(find(accounts, op.sourceAccountNumber()));
+                transaction.setReceiverAccount(find(accounts, op.receiverAccountNumber()));
+            }
+            case DEPOSIT -> transaction.setReceiverAccount(find(accounts, op.receiverAccountNumber()));
+            case WITHDRAW -> transaction.setSourceAccount(find(accounts, op.sourceAccountNumber()));
+            default -> throw new IllegalArgumentException("Operação " + op.type() + " não suportada em lote");
+        }
+
+        // Verifica se a conta de origem possui saldo, somando as operações que
+        // ainda estão no journal
+        if (transaction.getSourceAccount() != null) {
+            if (transactionJournal != null)
+                validateWithJournal(transaction);
+            else
+                availableBalanceValidation.validate(transaction);
+        }
+
+        // Debitando o valor da conta de origem
+        if (transaction.getSourceAccount() != null)
+            transaction.getSourceAccount()
+                    .setBalance(Money.subtract(transaction.getSourceAccount().getBalance(), transaction.getAmount()));
+
+        // Creditando o valor na conta de destino
+        if (transaction.getReceiverAccount() != null)
+            transaction.getReceiverAccount()
+                    .setBalance(Money.add(transaction.getReceiverAccount().getBalance(), transaction.getAmount()));
+
+        return transaction;
+    }
+
+    private void validateWithJournal(Transaction transaction) {
+        var source = transaction.getSourceAccount();
+        if (source.getBalanceWithLimit() + transactionJournal.pendingDelta(source.getNumber()) < transaction.getAmount())
+            throw new WithoutBalanceException();
+    }
+
+    private Account find(Map<Long, Account> accounts, Long number) throws NotFoundException {
+        if (number == null)
+            throw new IllegalArgumentException("Número da conta não informado");
+
+        var account = accounts.get(number);
+        if (account == null)
+            throw new NotFoundException("Conta " + number + " inexistente");
+
+        return account;
+    }
+}
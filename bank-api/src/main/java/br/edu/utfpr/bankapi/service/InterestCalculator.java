@@ -1,17 +1,149 @@
 package br.edu.utfpr.bankapi.service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.stream.IntStream;
+
+import br.edu.utfpr.bankapi.model.Money;
 
 /**
  * Calculadora de juros
  */
 public class InterestCalculator {
 
+    // Quantidade de elementos processados por tarefa nos cálculos em lote
+    static final int CHUNK_SIZE = 4096;
+
     // Método para calcular juros compostos com base na taxa de juros mensal
     public static double calcularJuros(double valor, float taxa, int prazo) {
+        double juros = valor * fator(taxa, prazo) - valor;
+        // Arredonda para o centavo (HALF_EVEN) sem criar BigDecimal
+        return Money.toUnits(Money.ofUnits(juros));
+    }
+
+    // Juros compostos sobre um valor em centavos, com resultado em centavos
+    public static long calcularJurosCentavos(long valor, float taxa, int prazo) {
+        return Money.multiply(valor, fator(taxa, prazo) - 1);
+    }
+
+    /**
+     * Calcula os juros de vários valores de uma vez, gravando em juros[i] o
+     * mesmo resultado de calcularJuros(valores[i], taxas[i], prazos[i]).
+     * 
+     * O fator (1 + taxa)^prazo é calculado uma única vez para cada par
+     * taxa/prazo distinto e os blocos são processados em paralelo, sem alocação
+     * por elemento.
+     */
+    public static void calcularJuros(double[] valores, float[] taxas, int[] prazos, double[] juros) {
+        validarTamanhos(valores.length, taxas, prazos, juros.length);
+
+        processar(valores.length, (inicio, fim) -> {
+            var cache = new FactorCache();
+            for (int i = inicio; i < fim; i++) {
+                double valor = valores[i];
+                double resultado = valor * cache.get(taxas[i], prazos[i]) - valor;
+                juros[i] = Money.toUnits(Money.ofUnits(resultado));
+            }
+        });
+    }
+
+    /**
+     * Versão em lote de calcularJurosCentavos
+     */
+    public static void calcularJurosCentavos(long[] valores, float[] taxas, int[] prazos, long[] juros) {
+        validarTamanhos(valores.length, taxas, prazos, juros.length);
+
+        processar(valores.length, (inicio, fim) -> {
+            var cache = new FactorCache();
+            for (int i = inicio; i < fim; i++)
+                juros[i] = Money.multiply(valores[i], cache.get(taxas[i], prazos[i]) - 1);
+        });
+    }
+
+    // (1 + taxa)^prazo, com a soma feita em float como no cálculo original
+    private static double fator(float taxa, int prazo) {
         float taxaDecimal = taxa / 100; // Convertendo a taxa para decimal
-        double juros = valor * Math.pow(1+taxaDecimal, prazo) - valor;
-        return new BigDecimal(juros).setScale(2, RoundingMode.HALF_EVEN).doubleValue();
+        return Math.pow(1+taxaDecimal, prazo);
+    }
+
+    private static void validarTamanhos(int tamanho, float[] taxas, int[] prazos, int saida) {
+        if (taxas.length != tamanho || prazos.length != tamanho || saida != tamanho)
+            throw new IllegalArgumentException("Os vetores devem ter o mesmo tamanho");
+    }
+
+    private interface Bloco {
+        void executar(int inicio, int fim);
+    }
+
+    // Divide [0, tamanho) em blocos; com mais de um bloco usa o ForkJoinPool comum
+    private static void processar(int tamanho, Bloco bloco) {
+        int blocos = (tamanho + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (blocos <= 1) {
+            bloco.executar(0, tamanho);
+            return;
+        }
+
+        IntStream.range(0, blocos).parallel().forEach(b -> bloco.executar(
+                b * CHUNK_SIZE, Math.min(tamanho, (b + 1) * CHUNK_SIZE)));
+    }
+
+    /**
+     * Tabela hash de endereçamento aberto (taxa, prazo) -> fator, com chaves e
+     * valores primitivos. Uma instância por bloco, sem sincronização.
+     */
+    static final class FactorCache {
+        private long[] keys = new long[16];
+        private double[] values = new double[16];
+        private boolean[] used = new boolean[16];
+        private int size;
+
+        double get(float taxa, int prazo) {
+            long key = ((long) Float.floatToIntBits(taxa) << 32) | (prazo & 0xFFFFFFFFL);
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+
+            while (used[slot]) {
+                if (keys[slot] == key)
+                    return values[slot];
+                slot = (slot + 1) & mask;
+            }
+
+            double value = fator(taxa, prazo);
+            used[slot] = true;
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > keys.length)
+                grow();
+            return value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            double[] oldValues = values;
+            boolean[] oldUsed = used;
+
+            keys = new long[oldKeys.length * 2];
+            values = new double[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            int mask = keys.length - 1;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (!oldUsed[i])
+                    continue;
+                int slot = mix(oldKeys[i]) & mask;
+                while (used[slot])
+                    slot = (slot + 1) & mask;
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
     }
 }
@@ -0,0 +1,257 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.edu.utfpr.bankapi.dto.TransactionHistoryDTO;
+import br.edu.utfpr.bankapi.dto.TransactionHistoryPageDTO;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.partitioning.TransactionPartitions;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Extrato (histórico de transações) de uma conta.
+ * 
+ * A paginação é por chave sobre (dateTime, id), em ordem decrescente: cada
+ * página é lida dos índices de conta de origem e de destino e as duas listas
+ * são intercaladas, com custo constante qualquer que seja a página.
+ *
+ * O extrato completo (exportação) é lido de um cursor no servidor, em ordem
+ * cronológica, sem materializar as transações.
+ *
+ * Com tb_transaction particionada (bankapi.partitioning.enabled), o período é
+ * limitado à retenção e cada página é lida primeiro do mês da sua posição.
+ */
+@Service
+public class TransactionHistoryService {
+
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private static final Comparator<TransactionHistoryDTO> NEWEST_FIRST = Comparator
+            .comparing(TransactionHistoryDTO::dateTime)
+            .thenComparingLong(TransactionHistoryDTO::id)
+            .reversed();
+
+    // Transações em que a conta é origem, mais aquelas em que é apenas destino
+    // (sem repetir as transferências para ela mesma): cada parte usa o índice
+    // (conta, date_time, id) da tabela
+    private static final String STATEMENT_SQL = """
+            select x.id, x.type, x.amount, x.date_time, x.source_number, x.receiver_number from (
+                select t.id, t.type, t.amount, t.date_time, s.number as source_number, r.number as receiver_number
+                from tb_transaction t
+                    left join tb_account s on s.id = t.source_account_id
+                    left join tb_account r on r.id = t.receiver_account_id
+                where t.source_account_id = :accountId
+                    and t.date_time >= :from and t.date_time < :to
+                union all
+                select t.id, t.type, t.amount, t.date_time, s.number, r.number
+                from tb_transaction t
+                    left join tb_account s on s.id = t.source_account_id
+                    left join tb_account r on r.id = t.receiver_account_id
+                where t.receiver_account_id = :accountId
+                    and (t.source_account_id is null or t.source_account_id <> :accountId)
+                    and t.date_time >= :from and t.date_time < :to
+            ) x
+            order by x.date_time, x.id
+            """;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    // Presente apenas com bankapi.partitioning.enabled=true
+    @Autowired(required = false)
+    private TransactionPartitions partitions;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${bankapi.account.max-page-size:1000}")
+    private int maxPageSize;
+
+    @Value("${bankapi.statement.fetch-size:1000}")
+    private int statementFetchSize;
+
+    /**
+     * @param from   início do período (inclusivo), opcional
+     * @param to     fim do período (exclusivo), opcional
+     * @param type   tipo de transação, opcional
+     * @param cursor posição retornada pela página anterior, opcional
+     */
+    @Transactional(readOnly = true)
+    public TransactionHistoryPageDTO getHistory(long number, LocalDateTime from, LocalDateTime to,
+            TransactionType type, String cursor, int size) throws NotFoundException {
+        var account = accountService.getByNumber(number)
+                .orElseThrow(() -> new NotFoundException("Conta " + number + " inexistente"));
+
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+        var start = from != null ? from : MIN_DATE;
+
+        // Posição inicial: o fim do período ou a última transação da página anterior
+        var beforeDate = to != null ? to : MAX_DATE;
+        long beforeId = Long.MIN_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            var position = decodeCursor(cursor);
+            beforeDate = position.dateTime();
+            beforeId = position.id();
+        }
+
+        if (partitions != null)
+            start = retained(start);
+
+        var page = read(account.getId(), start, beforeDate, beforeId, type, limit);
+        var next = page.more() ? encodeCursor(page.items().get(page.items().size() - 1)) : null;
+
+        return new TransactionHistoryPageDTO(page.items(), next);
+    }
+
+    private record Page(List<TransactionHistoryDTO> items, boolean more) {
+    }
+
+    /**
+     * Com tb_transaction particionada por mês, lê primeiro o mês da posição
+     * inicial (uma só partição, onde está a maior parte das páginas) e, se a
+     * página não foi preenchida, o restante do período
+     */
+    private Page read(long accountId, LocalDateTime start, LocalDateTime beforeDate, long beforeId,
+            TransactionType type, int limit) {
+        if (partitions == null)
+            return window(accountId, start, beforeDate, beforeId, type, limit);
+
+        var now = LocalDateTime.now();
+        var split = YearMonth.from(beforeDate.isBefore(now) ? beforeDate : now).atDay(1).atStartOfDay();
+        if (!split.isAfter(start))
+            return window(accountId, start, beforeDate, beforeId, type, limit);
+
+        var recent = window(accountId, split, beforeDate, beforeId, type, limit);
+        if (recent.items().size() == limit)
+            return new Page(recent.items(), true);
+
+        var older = window(accountId, start, split, Long.MIN_VALUE, type, limit - recent.items().size());
+        var items = new ArrayList<TransactionHistoryDTO>(recent.items());
+        items.addAll(older.items());
+        return new Page(items, older.more());
+    }
+
+    /**
+     * Transações do período anteriores à posição (beforeDate, beforeId)
+     */
+    private Page window(long accountId, LocalDateTime start, LocalDateTime beforeDate, long beforeId,
+            TransactionType type, int limit) {
+        var asSource = transactionRepository.findHistoryAsSource(accountId, start, beforeDate, beforeId,
+                type, Limit.of(limit));
+        var asReceiver = transactionRepository.findHistoryAsReceiver(accountId, start, beforeDate,
+                beforeId, type, Limit.of(limit));
+
+        var merged = merge(asSource, asReceiver);
+        var items = merged.size() > limit ? merged.subList(0, limit) : merged;
+
+        // Há mais transações se sobraram itens ou se alguma consulta preencheu a página
+        var more = merged.size() > limit || asSource.size() == limit || asReceiver.size() == limit;
+        return new Page(items, more);
+    }
+
+    /**
+     * O início do período, limitado às partições ainda mantidas pela retenção
+     */
+    private LocalDateTime retained(LocalDateTime start) {
+        var since = partitions.retainedSince();
+        return since != null && since.isAfter(start) ? since : start;
+    }
+
+    /**
+     * Percorre o extrato da conta no período [from, to), da transação mais
+     * antiga para a mais recente, com um cursor somente leitura que traz
+     * {@code bankapi.statement.fetch-size} linhas por vez. Cada linha é
+     * entregue ao consumer assim que lida, com memória constante; a conexão
+     * fica ocupada até o fim da leitura.
+     */
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public void forEachInStatement(long accountId, LocalDateTime from, LocalDateTime to,
+            Consumer<TransactionHistoryDTO> consumer) {
+        var start = from != null ? from : MIN_DATE;
+        var query = entityManager.createNativeQuery(STATEMENT_SQL)
+                .setParameter("accountId", accountId)
+                .setParameter("from", partitions != null ? retained(start) : start)
+                .setParameter("to", to != null ? to : MAX_DATE)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, statementFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("type", StandardBasicTypes.STRING)
+                .addScalar("amount", StandardBasicTypes.LONG)
+                .addScalar("date_time", StandardBasicTypes.LOCAL_DATE_TIME)
+                .addScalar("source_number", StandardBasicTypes.LONG)
+                .addScalar("receiver_number", StandardBasicTypes.LONG);
+
+        try (Stream<Object[]> rows = query.getResultStream()) {
+            rows.forEach(row -> consumer.accept(new TransactionHistoryDTO((Long) row[0],
+                    TransactionType.valueOf((String) row[1]), (Long) row[2], (LocalDateTime) row[3],
+                    (Long) row[4], (Long) row[5])));
+        }
+    }
+
+    /**
+     * Intercala as duas listas (já ordenadas), sem repetir as transferências da
+     * conta para ela mesma
+     */
+    private List<TransactionHistoryDTO> merge(List<TransactionHistoryDTO> a, List<TransactionHistoryDTO> b) {
+        var items = new ArrayList<TransactionHistoryDTO>(a.size() + b.size());
+        int i = 0;
+        int j = 0;
+
+        while (i < a.size() || j < b.size()) {
+            TransactionHistoryDTO next;
+            if (j >= b.size() || (i < a.size() && NEWEST_FIRST.compare(a.get(i), b.get(j)) <= 0))
+                next = a.get(i++);
+            else
+                next = b.get(j++);
+
+            if (items.isEmpty() || items.get(items.size() - 1).id() != next.id())
+                items.add(next);
+        }
+
+        return items;
+    }
+
+    private record Position(LocalDateTime dateTime, long id) {
+    }
+
+    private static String encodeCursor(TransactionHistoryDTO last) {
+        var value = last.dateTime() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes());
+    }
+
+    private static Position decodeCursor(String cursor) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor)).split("\\|");
+            return new Position(LocalDateTime.parse(value[0]), Long.parseLong(value[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
@@ -1,62 +1,122 @@
 package br.edu.utfpr.bankapi.service;
 
+import java.util.List;
+
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import br.edu.utfpr.bankapi.aggregates.DailyAggregates;
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
+import br.edu.utfpr.bankapi.concurrency.AccountOperation;
+import br.edu.utfpr.bankapi.concurrency.HotAccounts;
 import br.edu.utfpr.bankapi.dto.DepositDTO;
 import br.edu.utfpr.bankapi.dto.TransferDTO;
 import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.events.TransactionEventBus;
 import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import br.edu.utfpr.bankapi.journal.TransactionJournal;
+import br.edu.utfpr.bankapi.ledger.PostingLedger;
+import br.edu.utfpr.bankapi.metrics.OperationMetrics;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Money;
 import br.edu.utfpr.bankapi.model.Transaction;
 import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
 import br.edu.utfpr.bankapi.repository.TransactionRepository;
 import br.edu.utfpr.bankapi.validations.AvailableAccountValidation;
 import br.edu.utfpr.bankapi.validations.AvailableBalanceValidation;
-import jakarta.transaction.Transactional;
 
+/**
+ * Transferências, depósitos e saques.
+ * 
+ * Cada operação é executada sob a estratégia de concorrência das contas
+ * envolvidas (AccountLockStrategy), que envolve a transação inteira, até o
+ * commit: o serviço é seguro para qualquer chamador (controllers, jobs,
+ * benchmarks).
+ */
 @Service
 public class TransactionService {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private AccountRepository accountRepository;
+
     @Autowired
     private AvailableBalanceValidation availableBalanceValidation;
 
     @Autowired
     private AvailableAccountValidation availableAccountValidation;
 
-    @Transactional
+    @Autowired
+    private AccountLockStrategy accountLockStrategy;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Presente apenas com bankapi.journal.enabled=true
+    @Autowired(required = false)
+    private TransactionJournal transactionJournal;
+
+    // Presente apenas com bankapi.ledger.enabled=true
+    @Autowired(required = false)
+    private PostingLedger ledger;
+
+    // Presente apenas com bankapi.aggregates.enabled=true
+    @Autowired(required = false)
+    private DailyAggregates dailyAggregates;
+
+    @Autowired
+    private OperationMetrics metrics;
+
+    // Saldos alterados por UPDATE condicional, sem validação em Java
+    @Value("${bankapi.transaction.conditional-update:false}")
+    private boolean conditionalUpdate;
+
+    // Presente apenas com bankapi.hot-accounts.enabled=true
+    @Autowired(required = false)
+    private HotAccounts hotAccounts;
+
+    // Efeitos secundários (auditoria, métricas, log) fora da requisição
+    @Autowired(required = false)
+    private TransactionEventBus eventBus;
+
     public Transaction transfer(TransferDTO dto) throws NotFoundException {
-        var transaction = new Transaction();
-        transaction.setType(TransactionType.TRANSFER);
-        BeanUtils.copyProperties(dto, transaction);
+        return execute("transfer", () -> applyTransfer(dto), dto.sourceAccountNumber(), dto.receiverAccountNumber());
+    }
+
+    private Transaction applyTransfer(TransferDTO dto) throws NotFoundException {
+        if (conditional(dto.sourceAccountNumber(), dto.receiverAccountNumber()))
+            return conditionalTransfer(dto);
+
+        var transaction = toTransaction(dto, TransactionType.TRANSFER);
 
-        // Valida e obtém a Conta de ORIGEM da transferência
-        var source = availableAccountValidation.validate(dto.sourceAccountNumber());
-        // Valida e obtém Conta de DESTINO da transferência
-        var receiver = availableAccountValidation.validate(dto.receiverAccountNumber());
+        // Valida e obtém as contas de ORIGEM e DESTINO da transferência
+        var accounts = metrics.step("transfer", OperationMetrics.ACCOUNT_LOOKUP,
+                () -> availableAccountValidation.validate(dto.sourceAccountNumber(), dto.receiverAccountNumber()));
 
         // Seta a conta de origem da transferência
-        transaction.setSourceAccount(source);
+        transaction.setSourceAccount(journaled(accounts.get(0)));
         // Seta a conta de destino da transferência
-        transaction.setReceiverAccount(receiver);
+        transaction.setReceiverAccount(journaled(accounts.get(1)));
 
         // Verifica se a conta de origem possui saldo
-        availableBalanceValidation.validate(transaction);
+        validateBalance("transfer", transaction);
 
         // Debitando o valor da conta de origem
         transaction.getSourceAccount()
-                .setBalance(transaction.getSourceAccount().getBalance() - transaction.getAmount());
+                .setBalance(Money.subtract(transaction.getSourceAccount().getBalance(), transaction.getAmount()));
 
         // Creditando o valor na conta de destino
         transaction.getReceiverAccount()
-                .setBalance(transaction.getReceiverAccount().getBalance() + transaction.getAmount());
-
-        System.out.println(transaction);
+                .setBalance(Money.add(transaction.getReceiverAccount().getBalance(), transaction.getAmount()));
 
         // Salvando a transação
-        return transactionRepository.save(transaction);
+        return save("transfer", transaction);
     }
 
     /**
@@ -66,26 +126,28 @@ public class TransactionService {
      * 
      * @throws Exception
      */
-    @Transactional
     public Transaction deposit(DepositDTO dto) throws NotFoundException {
-        var transaction = new Transaction();
-        transaction.setType(TransactionType.DEPOSIT);
-        BeanUtils.copyProperties(dto, transaction);
+        return execute("deposit", () -> applyDeposit(dto), dto.receiverAccountNumber());
+    }
+
+    private Transaction applyDeposit(DepositDTO dto) throws NotFoundException {
+        if (conditional(dto.receiverAccountNumber()))
+            return conditionalDeposit(dto);
+
+        var transaction = toTransaction(dto, TransactionType.DEPOSIT);
 
         // Valida e obtém Conta de DESTINO do depósito
-        var receiver = availableAccountValidation.validate(dto.receiverAccountNumber());
+        var receiver = lookup("deposit", dto.receiverAccountNumber());
 
         // Seta a conta de destino do depósito
-        transaction.setReceiverAccount(receiver);
-
-        System.out.println(transaction);
+        transaction.setReceiverAccount(journaled(receiver));
 
         // Creditando o valor do depósito na conta de destino
         transaction.getReceiverAccount()
-                .setBalance(transaction.getReceiverAccount().getBalance() + transaction.getAmount());
+                .setBalance(Money.add(transaction.getReceiverAccount().getBalance(), transaction.getAmount()));
 
         // Salvando a transação
-        return transactionRepository.save(transaction);
+        return save("deposit", transaction);
     }
 
     /**
@@ -95,28 +157,208 @@ public class TransactionService {
      * 
      * @throws Exception
      */
-    @Transactional
     public Transaction withdraw(WithdrawDTO dto) throws NotFoundException {
-        var transaction = new Transaction();
-        transaction.setType(TransactionType.WITHDRAW);
-        BeanUtils.copyProperties(dto, transaction);
+        return execute("withdraw", () -> applyWithdraw(dto), dto.sourceAccountNumber());
+    }
+
+    /**
+     * Executa a operação sob o controle de concorrência das contas, em uma
+     * transação aberta dentro dele. Qualquer exceção, inclusive
+     * NotFoundException, desfaz a transação: na transferência, a outra conta
+     * pode já ter sido alterada.
+     */
+    private Transaction execute(String operation, AccountOperation<Transaction> body, long... accountNumbers)
+            throws NotFoundException {
+        return accountLockStrategy.execute(() -> {
+            try {
+                return transactionTemplate.execute(status -> {
+                    try {
+                        return metrics.time(operation, body);
+                    } catch (NotFoundException ex) {
+                        throw new NotFoundFailure(ex);
+                    }
+                });
+            } catch (NotFoundFailure ex) {
+                throw ex.cause;
+            }
+        }, accountNumbers);
+    }
+
+    /**
+     * Leva a NotFoundException (verificada) para fora do TransactionTemplate
+     */
+    private static class NotFoundFailure extends RuntimeException {
+        private final NotFoundException cause;
+
+        NotFoundFailure(NotFoundException cause) {
+            super(cause);
+            this.cause = cause;
+        }
+    }
+
+    private Transaction applyWithdraw(WithdrawDTO dto) throws NotFoundException {
+        if (conditional(dto.sourceAccountNumber()))
+            return conditionalWithdraw(dto);
+
+        var transaction = toTransaction(dto, TransactionType.WITHDRAW);
 
         // Valida e obtém a Conta de ORIGEM do Saque
-        var source = availableAccountValidation.validate(dto.sourceAccountNumber());
+        var source = lookup("withdraw", dto.sourceAccountNumber());
 
         // Setando a conta de origem do saque
-        transaction.setSourceAccount(source);
+        transaction.setSourceAccount(journaled(source));
 
         // Verifica se a conta de origem possui saldo
-        availableBalanceValidation.validate(transaction);
-
-        System.out.println(transaction);
+        validateBalance("withdraw", transaction);
 
         // Debitando o valor da conta de origem do saque
         transaction.getSourceAccount()
-                .setBalance(transaction.getSourceAccount().getBalance() - transaction.getAmount());
+                .setBalance(Money.subtract(transaction.getSourceAccount().getBalance(), transaction.getAmount()));
 
         // Salvando a transação
-        return transactionRepository.save(transaction);
+        return save("withdraw", transaction);
+    }
+
+    /**
+     * Caminho rápido (bankapi.transaction.conditional-update=true): o saldo é
+     * validado e alterado pelo próprio UPDATE, que bloqueia a linha até o fim
+     * da transação. É usado sempre que a operação envolve uma conta quente. Não
+     * se aplica aos modos journal e ledger, que não alteram a linha da conta.
+     */
+    private boolean conditional(long... numbers) {
+        if (transactionJournal != null || ledger != null)
+            return false;
+        return conditionalUpdate || hotAccounts != null && hotAccounts.anyHot(numbers);
+    }
+
+    private Transaction conditionalTransfer(TransferDTO dto) throws NotFoundException {
+        var transaction = toTransaction(dto, TransactionType.TRANSFER);
+
+        // Altera as contas em ordem crescente de número, evitando deadlock entre
+        // transferências opostas
+        if (dto.sourceAccountNumber() <= dto.receiverAccountNumber()) {
+            debit("transfer", dto.sourceAccountNumber(), dto.amount());
+            credit("transfer", dto.receiverAccountNumber(), dto.amount());
+        } else {
+            credit("transfer", dto.receiverAccountNumber(), dto.amount());
+            debit("transfer", dto.sourceAccountNumber(), dto.amount());
+        }
+
+        // Contas já atualizadas (e bloqueadas) pelos UPDATEs
+        transaction.setSourceAccount(reload("transfer", dto.sourceAccountNumber()));
+        transaction.setReceiverAccount(reload("transfer", dto.receiverAccountNumber()));
+        return save("transfer", transaction);
+    }
+
+    private Transaction conditionalDeposit(DepositDTO dto) throws NotFoundException {
+        var transaction = toTransaction(dto, TransactionType.DEPOSIT);
+        credit("deposit", dto.receiverAccountNumber(), dto.amount());
+        transaction.setReceiverAccount(reload("deposit", dto.receiverAccountNumber()));
+        return save("deposit", transaction);
+    }
+
+    private Transaction conditionalWithdraw(WithdrawDTO dto) throws NotFoundException {
+        var transaction = toTransaction(dto, TransactionType.WITHDRAW);
+        debit("withdraw", dto.sourceAccountNumber(), dto.amount());
+        transaction.setSourceAccount(reload("withdraw", dto.sourceAccountNumber()));
+        return save("withdraw", transaction);
+    }
+
+    private void debit(String operation, long number, long amount) throws NotFoundException {
+        int updated = metrics.step(operation, OperationMetrics.PERSISTENCE,
+                () -> hotAccounts != null ? hotAccounts.debit(number, amount)
+                        : accountRepository.debit(number, amount));
+        if (updated > 0)
+            return;
+
+        // Só a falha distingue conta inexistente de saldo insuficiente
+        if (!accountRepository.existsByNumber(number))
+            throw notFound(number);
+        throw new WithoutBalanceException();
+    }
+
+    /**
+     * Nas contas quentes, o crédito vai para um sub-saldo
+     */
+    private void credit(String operation, long number, long amount) throws NotFoundException {
+        int updated = metrics.step(operation, OperationMetrics.PERSISTENCE,
+                () -> hotAccounts != null && hotAccounts.credit(number, amount) ? 1
+                        : accountRepository.credit(number, amount));
+        if (updated == 0)
+            throw notFound(number);
+    }
+
+    private NotFoundException notFound(long number) {
+        return new NotFoundException("Conta " + number + " inexistente");
+    }
+
+    /**
+     * Cria a transação a partir dos dados da requisição
+     */
+    static Transaction toTransaction(Object dto, TransactionType type) {
+        var transaction = new Transaction();
+        transaction.setType(type);
+        BeanUtils.copyProperties(dto, transaction);
+        return transaction;
+    }
+
+    private Account lookup(String operation, long number) throws NotFoundException {
+        return metrics.step(operation, OperationMetrics.ACCOUNT_LOOKUP,
+                () -> availableAccountValidation.validate(number));
+    }
+
+    /**
+     * Conta lida após os UPDATEs do caminho condicional. A conta quente é lida
+     * sem bloqueio (mesmo no modo pessimistic), pois os créditos nos
+     * sub-saldos não disputam a linha da conta.
+     */
+    private Account reload(String operation, long number) throws NotFoundException {
+        if (hotAccounts == null || !hotAccounts.isHot(number))
+            return lookup(operation, number);
+
+        return metrics.step(operation, OperationMetrics.ACCOUNT_LOOKUP,
+                () -> hotAccounts.withSlots(
+                        accountRepository.getByNumber(number).orElseThrow(() -> notFound(number))));
+    }
+
+    private void validateBalance(String operation, Transaction transaction) {
+        metrics.step(operation, OperationMetrics.BALANCE_VALIDATION,
+                () -> availableBalanceValidation.validate(transaction));
+    }
+
+    /**
+     * No modo journal, as operações são feitas sobre cópias das contas com o
+     * saldo ainda não gravado no banco; no modo ledger, sobre cópias com o saldo
+     * derivado dos lançamentos
+     */
+    private Account journaled(Account account) {
+        if (transactionJournal != null)
+            return transactionJournal.view(account);
+        return ledger != null ? ledger.view(account) : account;
+    }
+
+    /**
+     * Grava a transação no banco ou, no modo journal, no journal (a gravação no
+     * banco é feita em segundo plano)
+     */
+    private Transaction save(String operation, Transaction transaction) throws NotFoundException {
+        return metrics.step(operation, OperationMetrics.PERSISTENCE, () -> {
+            Transaction saved;
+            if (transactionJournal != null) {
+                saved = transactionJournal.append(transaction);
+            } else {
+                // O flush envia os INSERTs/UPDATEs aqui, medindo o tempo no banco
+                saved = transactionRepository.save(transaction);
+                if (ledger != null)
+                    ledger.post(List.of(saved));
+                if (dailyAggregates != null)
+                    dailyAggregates.enqueue(List.of(saved));
+                transactionRepository.flush();
+            }
+
+            if (eventBus != null)
+                eventBus.publishAfterCommit(saved);
+            return saved;
+        });
     }
 }
@@ -1,8 +1,13 @@
 package br.edu.utfpr.bankapi.validations;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import br.edu.utfpr.bankapi.cache.AccountCache;
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
 import br.edu.utfpr.bankapi.exception.NotFoundException;
 import br.edu.utfpr.bankapi.model.Account;
 import br.edu.utfpr.bankapi.repository.AccountRepository;
@@ -16,13 +21,104 @@ public class AvailableAccountValidation {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired(required = false)
+    private AccountLockStrategy accountLockStrategy;
+
+    @Autowired(required = false)
+    private AccountCache accountCache;
+
+    /**
+     * Valida a conta. Com o id em cache, a conta é lida pela chave primária;
+     * senão, pelo número, e o id é guardado no cache.
+     */
     public Account validate(long number) throws NotFoundException {
-        var account = accountRepository.getByNumber(number); // Busca uma conta
+        var cached = cached(number);
+        if (cached.isPresent())
+            return cached.get();
+
+        // Bloqueia a conta no modo pessimista
+        var account = lockOnRead()
+                ? accountRepository.getByNumberForUpdate(number)
+                : accountRepository.getByNumber(number); // Busca uma conta
 
         if (account.isEmpty())
-            throw new NotFoundException("Conta " + number + " inexistente");
+            throw notFound(number);
 
+        if (accountCache != null)
+            accountCache.put(number, account.get().getId());
         return account.get();
     }
 
-}
\ No newline at end of file
+    private Optional<Account> cached(long number) {
+        var id = accountCache != null ? accountCache.getId(number) : null;
+        if (id == null)
+            return Optional.empty();
+
+        var account = lockOnRead()
+                ? accountRepository.findByIdForUpdate(id)
+                : accountRepository.findById(id);
+        if (account.isEmpty() || account.get().getNumber() != number) {
+            // A conta foi removida ou mudou de número desde que foi guardada
+            accountCache.invalidate(number);
+            return Optional.empty();
+        }
+        return account;
+    }
+
+    /**
+     * Valida as contas de uma transferência. Se os ids das duas estão no cache,
+     * elas existem e são lidas (com o saldo atual) em um único SELECT pela chave
+     * primária; senão, uma a uma pelo número, em ordem crescente para evitar
+     * deadlock no bloqueio das contas.
+     *
+     * @return as contas, na ordem dos números informados
+     */
+    public List<Account> validate(long first, long second) throws NotFoundException {
+        var cached = cached(first, second);
+        if (cached.isPresent())
+            return cached.get();
+
+        if (first <= second) {
+            var account = validate(first);
+            return List.of(account, validate(second));
+        }
+
+        var account = validate(second);
+        return List.of(validate(first), account);
+    }
+
+    private Optional<List<Account>> cached(long first, long second) {
+        if (accountCache == null)
+            return Optional.empty();
+
+        var firstId = accountCache.getId(first);
+        var secondId = accountCache.getId(second);
+        if (firstId == null || secondId == null)
+            return Optional.empty();
+
+        var ids = List.of(firstId, secondId);
+        var accounts = lockOnRead()
+                ? accountRepository.findByIdInForUpdate(ids)
+                : accountRepository.findAllById(ids);
+
+        var firstAccount = accounts.stream().filter(a -> a.getNumber() == first).findFirst();
+        var secondAccount = accounts.stream().filter(a -> a.getNumber() == second).findFirst();
+        if (firstAccount.isEmpty() || secondAccount.isEmpty()) {
+            // A conta mudou de número desde que foi guardada
+            accountCache.invalidate(first);
+            accountCache.invalidate(second);
+            return Optional.empty();
+        }
+
+        return Optional.of(List.of(firstAccount.get(), secondAccount.get()));
+    }
+
+    private boolean lockOnRead() {
+        return accountLockStrategy != null && accountLockStrategy.lockOnRead();
+    }
+
+    private NotFoundException notFound(long number) {
+        return new NotFoundException("Conta " + number + " inexistente");
+    }
+
+}
@@ -0,0 +1,19 @@
+-- Esquema inicial (contas e transações), como criado pelo Hibernate antes das
+-- migrações. Bancos que já têm estas tabelas recebem a linha de base na versão
+-- 0 (spring.flyway.baseline-on-migrate) e não executam este script.
+CREATE TABLE IF NOT EXISTS tb_account (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    number BIGINT NOT NULL UNIQUE,
+    balance DOUBLE NOT NULL,
+    special_limit DOUBLE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tb_transaction (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    source_account_id BIGINT REFERENCES tb_account (id),
+    receiver_account_id BIGINT REFERENCES tb_account (id),
+    amount DOUBLE NOT NULL,
+    type ENUM('TRANSFER', 'DEPOSIT', 'WITHDRAW'),
+    date_time DATETIME(6)
+);
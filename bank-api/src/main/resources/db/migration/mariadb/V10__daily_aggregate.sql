@@ -0,0 +1,10 @@
+-- Movimento diário por conta e tipo de transação (bankapi.aggregates.enabled=true)
+CREATE TABLE IF NOT EXISTS tb_daily_aggregate (
+    account_id BIGINT NOT NULL REFERENCES tb_account (id),
+    aggregate_day DATE NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    credited BIGINT NOT NULL,
+    debited BIGINT NOT NULL,
+    transactions BIGINT NOT NULL,
+    PRIMARY KEY (account_id, aggregate_day, type)
+);
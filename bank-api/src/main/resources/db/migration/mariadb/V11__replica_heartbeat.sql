@@ -0,0 +1,5 @@
+-- Batimento usado para medir o atraso da réplica de leitura (bankapi.replica.enabled=true)
+CREATE TABLE IF NOT EXISTS tb_replica_heartbeat (
+    id BIGINT NOT NULL PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
@@ -0,0 +1,4 @@
+-- Transações ainda não somadas a tb_daily_aggregate (bankapi.aggregates.enabled=true)
+CREATE TABLE IF NOT EXISTS tb_pending_aggregation (
+    transaction_id BIGINT NOT NULL PRIMARY KEY
+);
@@ -0,0 +1,2 @@
+-- Coluna de versão usada pelo controle de concorrência otimista (@Version)
+ALTER TABLE tb_account ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- Sequências usadas pelo gerador pooled (PooledSequenceGenerator), MariaDB 10.3+.
+-- O incremento deve ser igual a bankapi.id.allocation_size (50).
+-- As sequências começam após o maior id existente, deixando um bloco de folga.
+CREATE SEQUENCE IF NOT EXISTS tb_account_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_transaction_seq INCREMENT BY 50;
+
+SET @next = (SELECT COALESCE(MAX(id), 0) + 51 FROM tb_account);
+SET @sql = CONCAT('ALTER SEQUENCE tb_account_seq RESTART WITH ', @next);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @next = (SELECT COALESCE(MAX(id), 0) + 51 FROM tb_transaction);
+SET @sql = CONCAT('ALTER SEQUENCE tb_transaction_seq RESTART WITH ', @next);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,7 @@
+-- Valores monetários passam a ser guardados em centavos (BIGINT).
+-- Antes de aplicar, esvazie o journal (bankapi.journal.enabled) do processo.
+UPDATE tb_account SET balance = ROUND(balance * 100), special_limit = ROUND(special_limit * 100);
+ALTER TABLE tb_account MODIFY balance BIGINT NOT NULL, MODIFY special_limit BIGINT NOT NULL;
+
+UPDATE tb_transaction SET amount = ROUND(amount * 100);
+ALTER TABLE tb_transaction MODIFY amount BIGINT NOT NULL;
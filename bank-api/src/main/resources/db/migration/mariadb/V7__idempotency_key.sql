@@ -0,0 +1,10 @@
+-- Respostas das requisições com Idempotency-Key (bankapi.idempotency.persistent=true)
+CREATE TABLE IF NOT EXISTS tb_idempotency_key (
+    idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    fingerprint VARCHAR(100) NOT NULL,
+    status INT NOT NULL,
+    body TEXT,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_key_created_at ON tb_idempotency_key (created_at);
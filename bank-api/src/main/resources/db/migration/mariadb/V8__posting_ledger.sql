@@ -0,0 +1,21 @@
+-- Ledger de lançamentos (bankapi.ledger.enabled=true)
+CREATE SEQUENCE IF NOT EXISTS tb_posting_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tb_posting (
+    id BIGINT NOT NULL PRIMARY KEY,
+    account_id BIGINT REFERENCES tb_account (id),
+    account_sequence BIGINT NOT NULL,
+    transaction_id BIGINT NOT NULL REFERENCES tb_transaction (id),
+    amount BIGINT NOT NULL,
+    date_time TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_posting_account_sequence ON tb_posting (account_id, account_sequence);
+
+CREATE TABLE IF NOT EXISTS tb_balance_snapshot (
+    account_id BIGINT NOT NULL REFERENCES tb_account (id),
+    last_sequence BIGINT NOT NULL,
+    balance BIGINT NOT NULL,
+    date_time TIMESTAMP NOT NULL,
+    PRIMARY KEY (account_id, last_sequence)
+);
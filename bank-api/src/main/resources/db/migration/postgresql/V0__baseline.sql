@@ -0,0 +1,19 @@
+-- Esquema inicial (contas e transações), como criado pelo Hibernate antes das
+-- migrações. Bancos que já têm estas tabelas recebem a linha de base na versão
+-- 0 (spring.flyway.baseline-on-migrate) e não executam este script.
+CREATE TABLE IF NOT EXISTS tb_account (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    number BIGINT NOT NULL UNIQUE,
+    balance FLOAT(53) NOT NULL,
+    special_limit FLOAT(53) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tb_transaction (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    source_account_id BIGINT REFERENCES tb_account (id),
+    receiver_account_id BIGINT REFERENCES tb_account (id),
+    amount FLOAT(53) NOT NULL,
+    type VARCHAR(255) CONSTRAINT tb_transaction_type_check CHECK (type IN ('TRANSFER', 'DEPOSIT', 'WITHDRAW')),
+    date_time TIMESTAMP(6)
+);
@@ -0,0 +1,2 @@
+-- Snapshots por data: saldo em uma data anterior (bankapi.ledger.enabled=true)
+CREATE INDEX IF NOT EXISTS idx_balance_snapshot_account_date ON tb_balance_snapshot (account_id, date_time, last_sequence);
@@ -0,0 +1,8 @@
+-- Sequências usadas pelo gerador pooled (PooledSequenceGenerator).
+-- O incremento deve ser igual a bankapi.id.allocation_size (50).
+-- As sequências começam após o maior id existente, deixando um bloco de folga.
+CREATE SEQUENCE IF NOT EXISTS tb_account_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_transaction_seq INCREMENT BY 50;
+
+SELECT setval('tb_account_seq', (SELECT COALESCE(MAX(id), 0) + 51 FROM tb_account), false);
+SELECT setval('tb_transaction_seq', (SELECT COALESCE(MAX(id), 0) + 51 FROM tb_transaction), false);
@@ -0,0 +1,5 @@
+-- Última operação do journal gravada no banco (bankapi.journal.enabled=true)
+CREATE TABLE IF NOT EXISTS tb_journal_checkpoint (
+    id BIGINT NOT NULL PRIMARY KEY,
+    last_sequence BIGINT NOT NULL
+);
@@ -0,0 +1,3 @@
+-- Índices do extrato por conta (paginação por (date_time, id))
+CREATE INDEX IF NOT EXISTS idx_transaction_source_date ON tb_transaction (source_account_id, date_time, id);
+CREATE INDEX IF NOT EXISTS idx_transaction_receiver_date ON tb_transaction (receiver_account_id, date_time, id);
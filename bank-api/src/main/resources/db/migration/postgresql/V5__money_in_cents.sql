@@ -0,0 +1,8 @@
+-- Valores monetários passam a ser guardados em centavos (BIGINT).
+-- Antes de aplicar, esvazie o journal (bankapi.journal.enabled) do processo.
+ALTER TABLE tb_account
+    ALTER COLUMN balance TYPE BIGINT USING ROUND(CAST(balance AS NUMERIC) * 100),
+    ALTER COLUMN special_limit TYPE BIGINT USING ROUND(CAST(special_limit AS NUMERIC) * 100);
+
+ALTER TABLE tb_transaction
+    ALTER COLUMN amount TYPE BIGINT USING ROUND(CAST(amount AS NUMERIC) * 100);
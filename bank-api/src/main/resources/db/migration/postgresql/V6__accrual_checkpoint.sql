@@ -0,0 +1,10 @@
+-- Partições já processadas no fechamento de cada mês (bankapi.accrual.enabled=true)
+CREATE TABLE IF NOT EXISTS tb_accrual_checkpoint (
+    period VARCHAR(7) NOT NULL,
+    first_id BIGINT NOT NULL,
+    completed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (period, first_id)
+);
+
+-- Novo tipo de transação ACCRUAL (restrição criada pelo Hibernate, se existir)
+ALTER TABLE tb_transaction DROP CONSTRAINT IF EXISTS tb_transaction_type_check;
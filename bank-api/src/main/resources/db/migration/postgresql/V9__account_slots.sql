@@ -0,0 +1,9 @@
+-- Sub-saldos das contas quentes (bankapi.hot-accounts.enabled=true)
+ALTER TABLE tb_account ADD COLUMN IF NOT EXISTS balance_slots INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS tb_account_slot (
+    account_id BIGINT NOT NULL REFERENCES tb_account (id),
+    slot INTEGER NOT NULL,
+    balance BIGINT NOT NULL,
+    PRIMARY KEY (account_id, slot)
+);
@@ -0,0 +1,45 @@
+-- Particionamento mensal de tb_transaction por date_time (bankapi.partitioning.enabled=true).
+-- Fora de db/migration: o Flyway só aplica este script com a localização
+-- classpath:db/partitioning/{vendor} em spring.flyway.locations. Reescreve a
+-- tabela: inclua a localização em uma janela de manutenção.
+-- O MariaDB não aceita chaves estrangeiras em tabelas particionadas: as de
+-- tb_transaction e a de tb_posting para tb_transaction são removidas. A chave
+-- primária passa a ser (id, date_time), pois deve conter a chave de partição.
+SET @sql = (SELECT CONCAT('ALTER TABLE tb_transaction ', GROUP_CONCAT(CONCAT('DROP FOREIGN KEY ', constraint_name)))
+    FROM information_schema.table_constraints
+    WHERE table_schema = DATABASE() AND table_name = 'tb_transaction' AND constraint_type = 'FOREIGN KEY');
+SET @sql = COALESCE(@sql, 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = (SELECT CONCAT('ALTER TABLE tb_posting ', GROUP_CONCAT(CONCAT('DROP FOREIGN KEY ', constraint_name)))
+    FROM information_schema.referential_constraints
+    WHERE constraint_schema = DATABASE() AND table_name = 'tb_posting' AND referenced_table_name = 'tb_transaction');
+SET @sql = COALESCE(@sql, 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE tb_transaction MODIFY date_time DATETIME(6) NOT NULL, DROP PRIMARY KEY, ADD PRIMARY KEY (id, date_time);
+
+-- Uma partição por mês (pAAAAMM), da transação mais antiga até 3 meses à
+-- frente; pmax recebe as datas seguintes, até que a aplicação
+-- (TransactionPartitions) crie as próximas partições
+SET SESSION group_concat_max_len = 1000000;
+SET @first = DATE_FORMAT(COALESCE((SELECT MIN(date_time) FROM tb_transaction), NOW()), '%Y-%m-01');
+SET @last = DATE_FORMAT(NOW() + INTERVAL 3 MONTH, '%Y-%m-01');
+WITH RECURSIVE months (month_start) AS (
+    SELECT CAST(@first AS DATE)
+    UNION ALL
+    SELECT month_start + INTERVAL 1 MONTH FROM months WHERE month_start < @last
+)
+SELECT CONCAT('ALTER TABLE tb_transaction PARTITION BY RANGE COLUMNS (date_time) (',
+    GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'), ' VALUES LESS THAN (''',
+        month_start + INTERVAL 1 MONTH, ''')') ORDER BY month_start SEPARATOR ', '),
+    ', PARTITION pmax VALUES LESS THAN (MAXVALUE))')
+INTO @sql
+FROM months;
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,45 @@
+-- Particionamento mensal de tb_transaction por date_time (bankapi.partitioning.enabled=true).
+-- Fora de db/migration: o Flyway só aplica este script com a localização
+-- classpath:db/partitioning/{vendor} em spring.flyway.locations. Reescreve a
+-- tabela: inclua a localização em uma janela de manutenção.
+-- A chave primária passa a ser (id, date_time), pois deve conter a chave de
+-- partição; por isso, tb_posting deixa de ter chave estrangeira para tb_transaction.
+ALTER TABLE tb_posting DROP CONSTRAINT IF EXISTS tb_posting_transaction_id_fkey;
+
+ALTER TABLE tb_transaction RENAME TO tb_transaction_unpartitioned;
+DROP INDEX IF EXISTS idx_transaction_source_date;
+DROP INDEX IF EXISTS idx_transaction_receiver_date;
+
+CREATE TABLE tb_transaction (LIKE tb_transaction_unpartitioned INCLUDING DEFAULTS)
+    PARTITION BY RANGE (date_time);
+
+ALTER TABLE tb_transaction
+    ALTER COLUMN date_time SET NOT NULL,
+    ADD PRIMARY KEY (id, date_time),
+    ADD FOREIGN KEY (source_account_id) REFERENCES tb_account (id),
+    ADD FOREIGN KEY (receiver_account_id) REFERENCES tb_account (id);
+
+-- Uma partição por mês, da transação mais antiga até 3 meses à frente; as
+-- seguintes são criadas pela aplicação (TransactionPartitions)
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', coalesce((SELECT min(date_time) FROM tb_transaction_unpartitioned), now()));
+    last_month DATE := date_trunc('month', now()) + interval '3 months';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF tb_transaction FOR VALUES FROM (%L) TO (%L)',
+            'tb_transaction_p' || to_char(month_start, 'YYYYMM'), month_start,
+            (month_start + interval '1 month')::date);
+        month_start := month_start + interval '1 month';
+    END LOOP;
+END $$;
+
+-- Datas fora das partições mensais (normalmente vazia)
+CREATE TABLE tb_transaction_default PARTITION OF tb_transaction DEFAULT;
+
+INSERT INTO tb_transaction SELECT * FROM tb_transaction_unpartitioned;
+DROP TABLE tb_transaction_unpartitioned;
+
+-- Índices do extrato, criados em cada partição
+CREATE INDEX idx_transaction_source_date ON tb_transaction (source_account_id, date_time, id);
+CREATE INDEX idx_transaction_receiver_date ON tb_transaction (receiver_account_id, date_time, id);
@@ -0,0 +1,136 @@
+package br.edu.utfpr.bankapi.accrual;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.AccrualCheckpoint;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.AccrualCheckpointRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+
+/**
+ * Uma conta bloqueada por outra transação segura apenas o bloco em que está:
+ * o restante da partição e as outras partições continuam.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_bankapi_accrual;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "bankapi.concurrency.mode=pessimistic",
+        "bankapi.accrual.enabled=true",
+        "bankapi.accrual.cron=-",
+        "bankapi.accrual.partition-size=8",
+        "bankapi.accrual.lock-batch-size=2",
+        "bankapi.accrual.threads=2" })
+public class AccrualJobConcurrencyTest {
+
+    private static final YearMonth PERIODO = YearMonth.of(2024, 4);
+
+    @Autowired
+    AccrualJob job;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    @Autowired
+    AccrualCheckpointRepository checkpointRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void limpar() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    private boolean concluido(long block) {
+        return checkpointRepository.existsById(new AccrualCheckpoint.Key(PERIODO.toString(), block));
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite)
+            Thread.sleep(10);
+        Assertions.assertTrue(condicao.getAsBoolean());
+    }
+
+    @Test
+    void deveriaProcessarParticoesAoMesmoTempoComUmaContaBloqueada() throws Exception {
+        // ARRANGE: contas agrupadas por partição (8 ids) e bloco (2 ids)
+        var accounts = new ArrayList<Account>();
+        for (int i = 0; i < 24; i++)
+            accounts.add(new Account("Conta " + i, 7000 + i, 100000, 0));
+        accountRepository.saveAll(accounts);
+
+        Map<Long, List<Account>> particoes = new TreeMap<>();
+        for (var account : accounts)
+            particoes.computeIfAbsent(account.getId() / 8 * 8, k -> new ArrayList<>()).add(account);
+
+        // A primeira partição completa: o primeiro bloco fica livre e a última
+        // conta, em outro bloco, é bloqueada por uma transação em andamento
+        var primeira = particoes.entrySet().stream().filter(e -> e.getValue().size() == 8).findFirst().get();
+        long particaoBloqueada = primeira.getKey();
+        var bloqueada = primeira.getValue().get(7);
+
+        var bloqueou = new CountDownLatch(1);
+        var liberar = new CountDownLatch(1);
+        var lock = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            accountRepository.findByIdForUpdate(bloqueada.getId());
+            bloqueou.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        Assertions.assertTrue(bloqueou.await(10, TimeUnit.SECONDS));
+
+        // ACT
+        var execucao = CompletableFuture.supplyAsync(() -> {
+            try {
+                return job.run(PERIODO);
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        // ASSERT: enquanto a partição bloqueada espera pela conta, o seu primeiro
+        // bloco e as demais partições são concluídos
+        try {
+            aguardar(() -> concluido(particaoBloqueada));
+            for (long particao : particoes.keySet())
+                if (particao != particaoBloqueada)
+                    for (long block = particao; block < particao + 8; block += 2) {
+                        long b = block;
+                        aguardar(() -> concluido(b));
+                    }
+            Assertions.assertFalse(concluido(particaoBloqueada + 6));
+            Assertions.assertFalse(execucao.isDone());
+        } finally {
+            liberar.countDown();
+        }
+
+        lock.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(particoes.size(), execucao.get(20, TimeUnit.SECONDS));
+        for (var account : accounts)
+            Assertions.assertEquals(100500, accountRepository.findById(account.getId()).get().getBalance());
+    }
+}
@@ -0,0 +1,115 @@
+package br.edu.utfpr.bankapi.accrual;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.AccrualCheckpoint;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.AccrualCheckpointRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+
+@SpringBootTest(properties = {
+        "bankapi.accrual.enabled=true",
+        "bankapi.accrual.cron=-",
+        "bankapi.accrual.partition-size=4",
+        "bankapi.accrual.threads=3",
+        "bankapi.accrual.interest-rate=0.5",
+        "bankapi.accrual.overdraft-rate=8.0" })
+public class AccrualJobTest {
+
+    private static final YearMonth PERIODO = YearMonth.of(2024, 4);
+
+    @Autowired
+    AccrualJob job;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    @Autowired
+    AccrualCheckpointRepository checkpointRepository;
+
+    @AfterEach
+    void limpar() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    private List<Account> criarContas(int quantidade, long saldo) {
+        var accounts = new ArrayList<Account>();
+        for (int i = 0; i < quantidade; i++)
+            accounts.add(new Account("Conta " + i, 7000 + i, saldo, 50000));
+        return accountRepository.saveAll(accounts);
+    }
+
+    private long saldo(Account account) {
+        return accountRepository.findById(account.getId()).get().getBalance();
+    }
+
+    @Test
+    void deveriaAplicarJurosEEncargos() throws Exception {
+        // ARRANGE
+        var positiva = accountRepository.save(new Account("John Doe", 12345, 100000, 0));
+        var negativa = accountRepository.save(new Account("Jane Doe", 67890, -20000, 50000));
+        var zerada = accountRepository.save(new Account("Joe Doe", 11111, 0, 50000));
+
+        // ACT
+        job.run(PERIODO);
+
+        // ASSERT: 0,5% de R$ 1000,00 e 8% de R$ 200,00
+        Assertions.assertEquals(100500, saldo(positiva));
+        Assertions.assertEquals(-21600, saldo(negativa));
+        Assertions.assertEquals(0, saldo(zerada));
+
+        var transactions = transactionRepository.findAll();
+        Assertions.assertEquals(2, transactions.size());
+        Assertions.assertTrue(transactions.stream().allMatch(t -> t.getType() == TransactionType.ACCRUAL));
+    }
+
+    @Test
+    void naoDeveriaAplicarDuasVezesNoMesmoMes() throws Exception {
+        // ARRANGE
+        var accounts = criarContas(10, 100000);
+        Assertions.assertTrue(job.run(PERIODO) >= 3);
+
+        // ACT
+        int processadas = job.run(PERIODO);
+
+        // ASSERT
+        Assertions.assertEquals(0, processadas);
+        for (var account : accounts)
+            Assertions.assertEquals(100500, saldo(account));
+        Assertions.assertEquals(10, transactionRepository.count());
+    }
+
+    @Test
+    void deveriaRetomarPelasParticoesQueFaltam() throws Exception {
+        // ARRANGE: a partição da primeira conta já foi concluída
+        var accounts = criarContas(10, 100000);
+        long firstId = accounts.get(0).getId() / 4 * 4;
+        checkpointRepository.save(new AccrualCheckpoint(
+                new AccrualCheckpoint.Key(PERIODO.toString(), firstId), LocalDateTime.now()));
+
+        // ACT
+        job.run(PERIODO);
+
+        // ASSERT
+        for (var account : accounts) {
+            long esperado = account.getId() / 4 * 4 == firstId ? 100000 : 100500;
+            Assertions.assertEquals(esperado, saldo(account));
+        }
+    }
+}
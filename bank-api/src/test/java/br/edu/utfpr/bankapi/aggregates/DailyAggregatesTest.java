@@ -0,0 +1,133 @@
+package br.edu.utfpr.bankapi.aggregates;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import br.edu.utfpr.bankapi.dto.AggregateTotalDTO;
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.DailyAggregateRepository;
+import br.edu.utfpr.bankapi.repository.PendingAggregationRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import br.edu.utfpr.bankapi.service.TransactionService;
+
+@SpringBootTest(properties = {
+        "bankapi.aggregates.enabled=true",
+        "bankapi.aggregates.fold-interval-millis=600000" })
+@AutoConfigureMockMvc
+public class DailyAggregatesTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    DailyAggregates dailyAggregates;
+
+    @Autowired
+    TransactionService transactionService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    @Autowired
+    DailyAggregateRepository aggregateRepository;
+
+    @Autowired
+    PendingAggregationRepository pendingRepository;
+
+    @AfterEach
+    void limpar() {
+        pendingRepository.deleteAll();
+        aggregateRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    void deveriaAgregarPorContaDiaETipo() throws Exception {
+        // ARRANGE
+        var origem = accountRepository.save(new Account("John Doe", 12345, 100000, 0));
+        var destino = accountRepository.save(new Account("Jane Doe", 67890, 0, 0));
+
+        // ACT
+        transactionService.deposit(new DepositDTO(12345, 1000));
+        transactionService.deposit(new DepositDTO(12345, 1000));
+        transactionService.transfer(new TransferDTO(12345, 67890, 500));
+        transactionService.withdraw(new WithdrawDTO(12345, 200));
+        dailyAggregates.fold();
+
+        // ASSERT
+        var hoje = LocalDate.now();
+        Assertions.assertEquals(List.of(
+                new AggregateTotalDTO(TransactionType.DEPOSIT, 2000, 0, 2),
+                new AggregateTotalDTO(TransactionType.TRANSFER, 0, 500, 1),
+                new AggregateTotalDTO(TransactionType.WITHDRAW, 0, 200, 1)),
+                dailyAggregates.report(origem, hoje, hoje, false).totals());
+        Assertions.assertEquals(List.of(new AggregateTotalDTO(TransactionType.TRANSFER, 500, 0, 1)),
+                dailyAggregates.report(destino, hoje.minusDays(7), hoje, false).totals());
+    }
+
+    @Test
+    void deveriaRetornarAgregadosDiariosPeloEndpoint() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 12345, 0, 0));
+        transactionService.deposit(new DepositDTO(12345, 2500));
+        dailyAggregates.fold();
+        var hoje = LocalDate.now().toString();
+
+        // ACT + ASSERT
+        mvc.perform(MockMvcRequestBuilders.get("/account/12345/aggregates")
+                .param("from", hoje).param("to", hoje).param("daily", "true"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totals[0].type").value("DEPOSIT"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totals[0].credited").value(25.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totals[0].day").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.days", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.days[0].day").value(hoje))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.days[0].transactions").value(1));
+
+        mvc.perform(MockMvcRequestBuilders.get("/account/12345/aggregates")
+                .param("from", hoje).param("to", LocalDate.now().minusDays(1).toString()))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    void deveriaManterPendentesAteAAgregacao() throws Exception {
+        // ARRANGE
+        var conta = accountRepository.save(new Account("John Doe", 12345, 0, 0));
+        var hoje = LocalDate.now();
+
+        // ACT: as transações confirmadas ficam pendentes no banco, não na memória
+        transactionService.deposit(new DepositDTO(12345, 1000));
+        transactionService.deposit(new DepositDTO(12345, 500));
+
+        // ASSERT
+        Assertions.assertEquals(2, pendingRepository.count());
+        Assertions.assertEquals(List.of(), dailyAggregates.report(conta, hoje, hoje, false).totals());
+
+        dailyAggregates.fold();
+        dailyAggregates.fold();
+
+        Assertions.assertEquals(0, pendingRepository.count());
+        Assertions.assertEquals(List.of(new AggregateTotalDTO(TransactionType.DEPOSIT, 1500, 0, 2)),
+                dailyAggregates.report(conta, hoje, hoje, false).totals());
+    }
+}
@@ -0,0 +1,64 @@
+package br.edu.utfpr.bankapi.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AccountCacheTest {
+
+    @Test
+    void deveriaContarAcertosEFalhas() {
+        // ARRANGE
+        var cache = new AccountCache(10, 60);
+
+        // ACT
+        var antes = cache.getId(12345);
+        cache.put(12345, 7);
+        var depois = cache.getId(12345);
+
+        // ASSERT
+        Assertions.assertNull(antes);
+        Assertions.assertEquals(7, depois);
+        Assertions.assertEquals(1, cache.misses());
+        Assertions.assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void deveriaLimitarAQuantidadeDeEntradas() {
+        // ARRANGE
+        var cache = new AccountCache(2, 60);
+        cache.put(1, 10);
+        cache.put(2, 20);
+
+        // ACT
+        cache.put(3, 30);
+
+        // ASSERT
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    void deveriaExpirarEntradas() {
+        // ARRANGE
+        var cache = new AccountCache(10, 0);
+        cache.put(1, 10);
+
+        // ACT + ASSERT
+        Assertions.assertNull(cache.getId(1));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void deveriaRemoverONumeroInvalidado() {
+        // ARRANGE
+        var cache = new AccountCache(10, 60);
+        cache.put(12345, 7);
+
+        // ACT
+        cache.invalidate(12345);
+
+        // ASSERT
+        Assertions.assertNull(cache.getId(12345));
+        Assertions.assertEquals(0, cache.size());
+    }
+}
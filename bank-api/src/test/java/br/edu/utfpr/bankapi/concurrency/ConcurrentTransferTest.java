@@ -0,0 +1,117 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import br.edu.utfpr.bankapi.service.TransactionService;
+
+/**
+ * Transferências concorrentes entre as mesmas contas não podem perder
+ * atualizações de saldo, qualquer que seja o modo de concorrência.
+ * 
+ * O tempo de cada modo é registrado no log para comparação com carga
+ * concorrente (poucas contas) e sem concorrência (contas distintas).
+ */
+public class ConcurrentTransferTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentTransferTest.class);
+
+    static abstract class Cenario {
+        @Autowired
+        AccountLockStrategy accountLockStrategy;
+
+        @Autowired
+        TransactionService transactionService;
+
+        @Autowired
+        AccountRepository accountRepository;
+
+        @Autowired
+        TransactionRepository transactionRepository;
+
+        @AfterEach
+        void limpar() {
+            transactionRepository.deleteAll();
+            accountRepository.deleteAll();
+        }
+
+        @Test
+        void naoDeveriaPerderAtualizacoesComContasDisputadas() throws Exception {
+            executar(2);
+        }
+
+        @Test
+        void naoDeveriaPerderAtualizacoesComContasDistintas() throws Exception {
+            executar(16);
+        }
+
+        void executar(int contas) throws Exception {
+            // ARRANGE
+            for (int i = 0; i < contas; i++)
+                accountRepository.save(new Account("Conta " + i, 5000 + i, 100000, 0));
+
+            int threads = 8;
+            int operacoes = 50;
+            var erros = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            // ACT: cada thread transfere 1,00 da conta (t) para a conta (t + 1)
+            long inicio = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                long origem = 5000 + t % contas;
+                long destino = 5000 + (t + 1) % contas;
+                executor.submit(() -> {
+                    for (int i = 0; i < operacoes; i++) {
+                        try {
+                            var dto = new TransferDTO(origem, destino, 100);
+                            transactionService.transfer(dto);
+                        } catch (Exception ex) {
+                            erros.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+            log.info("{}: {} contas, {} transferências em {} ms",
+                    accountLockStrategy.getClass().getSimpleName(), contas, threads * operacoes, millis);
+
+            // ASSERT: o dinheiro total se conserva e cada transferência gerou uma transação
+            long total = accountRepository.findAll().stream().mapToLong(Account::getBalance).sum();
+            Assertions.assertEquals(100000L * contas, total);
+            Assertions.assertEquals(threads * operacoes - erros.get(), transactionRepository.count());
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = "bankapi.concurrency.mode=striped")
+    class Striped extends Cenario {
+    }
+
+    @Nested
+    @SpringBootTest(properties = "bankapi.concurrency.mode=pessimistic")
+    class Pessimistic extends Cenario {
+    }
+
+    @Nested
+    @SpringBootTest(properties = { "bankapi.concurrency.mode=optimistic", "bankapi.concurrency.max-attempts=50" })
+    class Optimistic extends Cenario {
+    }
+}
@@ -0,0 +1,91 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ConnectionLimiterTest {
+
+    private DataSource limited(ConnectionLimiter limiter) throws SQLException {
+        var dataSource = Mockito.mock(DataSource.class);
+        Mockito.when(dataSource.getConnection()).thenAnswer(invocation -> Mockito.mock(Connection.class));
+        return (DataSource) limiter.postProcessAfterInitialization(dataSource, "dataSource");
+    }
+
+    @Test
+    void deveriaDevolverPermissaoAoFecharConexao() throws SQLException {
+        // ARRANGE
+        var limiter = new ConnectionLimiter(2, 10, 100);
+        var dataSource = limited(limiter);
+
+        // ACT
+        var connection = dataSource.getConnection();
+        int ativas = limiter.active();
+        connection.close();
+        connection.close();
+
+        // ASSERT
+        Assertions.assertEquals(1, ativas);
+        Assertions.assertEquals(0, limiter.active());
+        Assertions.assertFalse(Proxy.isProxyClass(connection.unwrap(Connection.class).getClass()));
+    }
+
+    @Test
+    void deveriaRejeitarAposTimeout() throws SQLException {
+        // ARRANGE
+        var limiter = new ConnectionLimiter(1, 10, 50);
+        var dataSource = limited(limiter);
+        var connection = dataSource.getConnection();
+
+        // ACT + ASSERT
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        Assertions.assertEquals(1, limiter.rejected());
+
+        connection.close();
+        Assertions.assertDoesNotThrow(() -> dataSource.getConnection().close());
+    }
+
+    @Test
+    void deveriaRejeitarDeImediatoComFilaCheia() throws Exception {
+        // ARRANGE: uma permissão, ocupada, e fila de uma posição
+        var limiter = new ConnectionLimiter(1, 1, 10_000);
+        var dataSource = limited(limiter);
+        var connection = dataSource.getConnection();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var started = new CountDownLatch(1);
+
+        try {
+            Future<?> waiter = executor.submit(() -> {
+                started.countDown();
+                dataSource.getConnection().close();
+                return null;
+            });
+            started.await();
+            while (limiter.waiting() == 0)
+                Thread.onSpinWait();
+
+            // ACT + ASSERT: a segunda requisição em espera excede a fila
+            long inicio = System.nanoTime();
+            Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+            Assertions.assertTrue(System.nanoTime() - inicio < TimeUnit.SECONDS.toNanos(5));
+
+            connection.close();
+            waiter.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(0, limiter.active());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
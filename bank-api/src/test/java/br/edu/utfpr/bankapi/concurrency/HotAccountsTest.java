@@ -0,0 +1,160 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.AccountSlot;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.AccountSlotRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import br.edu.utfpr.bankapi.service.TransactionService;
+
+@SpringBootTest(properties = "bankapi.hot-accounts.enabled=true")
+public class HotAccountsTest {
+
+    @Autowired
+    HotAccounts hotAccounts;
+
+    @Autowired
+    TransactionService transactionService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AccountSlotRepository slotRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void limpar() {
+        transactionRepository.deleteAll();
+        slotRepository.deleteAll();
+        accountRepository.deleteAll();
+        hotAccounts.refresh();
+    }
+
+    private long saldo(long number) {
+        return hotAccounts.withSlots(accountRepository.getByNumber(number).get()).getBalance();
+    }
+
+    private long subSaldos() {
+        return slotRepository.findAll().stream().mapToLong(AccountSlot::getBalance).sum();
+    }
+
+    @Test
+    void deveriaDistribuirCreditosNosSubSaldos() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("Loja", 12345, 1000, 0));
+        accountRepository.save(new Account("Cliente", 67890, 100000, 0));
+        hotAccounts.resize(12345, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // ACT: depósitos concorrentes, sem bloqueio da conta quente
+        for (int i = 0; i < 20; i++)
+            executor.submit(() -> transactionService.deposit(new DepositDTO(12345, 100)));
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        var transfer = transactionService.transfer(new TransferDTO(67890, 12345, 500));
+
+        // ASSERT: a coluna balance não muda; o saldo inclui os sub-saldos
+        Assertions.assertEquals(3500, transfer.getReceiverAccount().getBalance());
+        Assertions.assertEquals(99500, transfer.getSourceAccount().getBalance());
+        Assertions.assertEquals(3500, saldo(12345));
+        Assertions.assertEquals(2500, subSaldos());
+        Assertions.assertEquals(4, slotRepository.count());
+    }
+
+    @Test
+    void deveriaSacarConsiderandoSubSaldos() throws NotFoundException {
+        // ARRANGE
+        accountRepository.save(new Account("Loja", 12345, 0, 0));
+        hotAccounts.resize(12345, 4);
+        transactionService.deposit(new DepositDTO(12345, 500));
+
+        // ACT
+        var saque = transactionService.withdraw(new WithdrawDTO(12345, 400));
+
+        // ASSERT: o débito vai para a coluna balance, coberto pelos sub-saldos
+        Assertions.assertEquals(100, saque.getSourceAccount().getBalance());
+        Assertions.assertThrows(WithoutBalanceException.class,
+                () -> transactionService.withdraw(new WithdrawDTO(12345, 101)));
+        Assertions.assertEquals(100, saldo(12345));
+        Assertions.assertEquals(500, subSaldos());
+    }
+
+    @Test
+    void deveriaSomarSubSaldosAoVoltarAoNormal() throws NotFoundException {
+        // ARRANGE
+        accountRepository.save(new Account("Loja", 12345, 1000, 0));
+        hotAccounts.resize(12345, 4);
+        for (int i = 0; i < 10; i++)
+            transactionService.deposit(new DepositDTO(12345, 100));
+
+        // ACT
+        var account = hotAccounts.resize(12345, 0);
+        transactionService.deposit(new DepositDTO(12345, 100));
+
+        // ASSERT
+        Assertions.assertEquals(2000, account.getBalance());
+        Assertions.assertEquals(0, account.getBalanceSlots());
+        Assertions.assertFalse(hotAccounts.isHot(12345));
+        Assertions.assertEquals(0, slotRepository.count());
+        Assertions.assertEquals(2100, saldo(12345));
+    }
+
+    @Test
+    void naoDeveriaContarDuasVezesOSubSaldoRemovidoDuranteUmSaque() throws Exception {
+        // ARRANGE: R$ 1,00 em dois sub-saldos e nada na coluna balance
+        var loja = accountRepository.save(new Account("Loja", 12345, 0, 0));
+        hotAccounts.resize(12345, 2);
+        transactionTemplate.executeWithoutResult(status -> {
+            slotRepository.credit(loja.getId(), 0, 50);
+            slotRepository.credit(loja.getId(), 1, 50);
+        });
+
+        // ACT: o redimensionamento para 1 sub-saldo (que move 0,50 para a coluna
+        // balance) fica sem commit enquanto um saque de 1,50 começa
+        var redimensionou = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var resize = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            try {
+                hotAccounts.resize(12345, 1);
+                redimensionou.countDown();
+                Thread.sleep(300);
+            } catch (NotFoundException | InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+        Assertions.assertTrue(redimensionou.await(10, TimeUnit.SECONDS));
+
+        // ASSERT: o saldo é R$ 1,00 antes e depois do redimensionamento
+        Assertions.assertThrows(WithoutBalanceException.class,
+                () -> transactionService.withdraw(new WithdrawDTO(12345, 150)));
+        resize.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Assertions.assertEquals(100, saldo(12345));
+        Assertions.assertEquals(50, subSaldos());
+        Assertions.assertEquals(0, transactionRepository.count());
+    }
+}
@@ -0,0 +1,63 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StripedLockManagerTest {
+
+    @Test
+    void deveriaArredondarFaixasParaPotenciaDeDois() {
+        Assertions.assertEquals(1024, new StripedLockManager(1000).stripes());
+        Assertions.assertEquals(1024, new StripedLockManager(1024).stripes());
+        Assertions.assertEquals(1, new StripedLockManager(1).stripes());
+    }
+
+    @Test
+    void deveriaAdquirirFaixasOrdenadasESemRepeticao() {
+        // ARRANGE
+        var manager = new StripedLockManager(16);
+
+        // ACT
+        var stripes = manager.lock(7, 3, 7, 3);
+        manager.unlock(stripes);
+
+        // ASSERT
+        Assertions.assertTrue(stripes.length <= 2);
+        for (int i = 1; i < stripes.length; i++)
+            Assertions.assertTrue(stripes[i - 1] < stripes[i]);
+    }
+
+    @Test
+    void naoDeveriaOcorrerDeadlockEmTransferenciasOpostas() throws InterruptedException {
+        // ARRANGE
+        var manager = new StripedLockManager(64);
+        var saldos = new long[] { 0, 0 };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // ACT: metade das threads trava (1, 2) e a outra metade (2, 1)
+        for (int t = 0; t < 8; t++) {
+            boolean inverso = t % 2 == 0;
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    var stripes = inverso ? manager.lock(2, 1) : manager.lock(1, 2);
+                    try {
+                        saldos[0]--;
+                        saldos[1]++;
+                    } finally {
+                        manager.unlock(stripes);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+
+        // ASSERT
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        Assertions.assertEquals(-80_000, saldos[0]);
+        Assertions.assertEquals(80_000, saldos[1]);
+    }
+}
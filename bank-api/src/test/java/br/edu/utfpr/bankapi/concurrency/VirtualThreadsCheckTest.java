@@ -0,0 +1,17 @@
+package br.edu.utfpr.bankapi.concurrency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsCheckTest {
+
+    @Test
+    void deveriaRecusarJavaAnteriorAo21() {
+        Assertions.assertThrows(IllegalStateException.class, () -> VirtualThreadsCheck.check(17));
+    }
+
+    @Test
+    void deveriaAceitarJava21() {
+        Assertions.assertDoesNotThrow(() -> VirtualThreadsCheck.check(21));
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import com.jayway.jsonpath.JsonPath;
+
 import br.edu.utfpr.bankapi.dto.AccountDTO;
 import br.edu.utfpr.bankapi.model.Account;
 
@@ -42,11 +44,65 @@ public class AccountControllerTest {
 
         // ASSERT
         Assertions.assertEquals(200, res.getStatus());
+        Assertions.assertTrue(res.getContentAsString().startsWith("["));
         // Verifica se o número de contas retornadas é 2
         Assertions.assertTrue(res.getContentAsString().contains("Ricardo Sobjak"));
         Assertions.assertTrue(res.getContentAsString().contains("Juca Silva"));
     }
 
+    @Test
+    void deveriaRetornarTodasAsContasEmNdjson() throws Exception {
+        // ARRANGE
+        entityManager.persist(new Account("Ricardo Sobjak", 12345, 1000, 500));
+        entityManager.persist(new Account("Juca Silva", 67890, 2000, 1000));
+
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.get("/account")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse();
+
+        // ASSERT
+        Assertions.assertEquals(200, res.getStatus());
+        var linhas = res.getContentAsString().strip().split("\n");
+        Assertions.assertEquals(2, linhas.length);
+        Assertions.assertTrue(linhas[0].contains("Ricardo Sobjak"));
+        Assertions.assertTrue(linhas[1].contains("Juca Silva"));
+    }
+
+    @Test
+    void deveriaPaginarAsContasPorCursor() throws Exception {
+        // ARRANGE
+        for (int i = 0; i < 5; i++)
+            entityManager.persist(new Account("Conta " + i, 20000 + i, 0, 0));
+
+        // ACT + ASSERT: 5 contas em páginas de 2
+        var pagina1 = mvc.perform(MockMvcRequestBuilders.get("/account/page").param("size", "2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()", Matchers.equalTo(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo("Conta 0")))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(pagina1, "$.nextCursor");
+
+        var pagina2 = mvc.perform(MockMvcRequestBuilders.get("/account/page").param("size", "2").param("cursor", cursor))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo("Conta 2")))
+                .andReturn().getResponse().getContentAsString();
+        cursor = JsonPath.read(pagina2, "$.nextCursor");
+
+        mvc.perform(MockMvcRequestBuilders.get("/account/page").param("size", "2").param("cursor", cursor))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()", Matchers.equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", Matchers.nullValue()));
+    }
+
+    @Test
+    void deveriaRetornar400ParaCursorInvalido() throws Exception {
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.get("/account/page").param("cursor", "???"))
+                .andReturn().getResponse();
+
+        // ASSERT
+        Assertions.assertEquals(400, res.getStatus());
+    }
+
     @Test
     void deveriaRetornarContaPorNumero() throws Exception {
         // ARRANGE
@@ -110,7 +166,7 @@ public class AccountControllerTest {
                 """;
 
         // ACT
-        var res = mvc.perform(MockMvcRequestBuilders.put("/account/1")
+        var res = mvc.perform(MockMvcRequestBuilders.put("/account/" + account.getId())
                 .content(json)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andReturn().getResponse();
@@ -141,4 +197,22 @@ public class AccountControllerTest {
         // ASSERT
         Assertions.assertEquals(404, res.getStatus());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void deveriaRetornarSaldoDaConta() throws Exception {
+        // ARRANGE
+        entityManager.persist(new Account("Ricardo Sobjak", 12345, 150000, 500));
+
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.get("/account/12345/balance"))
+                .andReturn().getResponse();
+        var emData = mvc.perform(MockMvcRequestBuilders.get("/account/12345/balance")
+                .param("at", "2024-01-01T00:00:00"))
+                .andReturn().getResponse();
+
+        // ASSERT: o saldo em uma data anterior requer o modo ledger
+        Assertions.assertEquals(200, res.getStatus());
+        Assertions.assertEquals(1500.0, JsonPath.<Double>read(res.getContentAsString(), "$.balance"));
+        Assertions.assertEquals(400, emData.getStatus());
+    }
+}
@@ -0,0 +1,114 @@
+package br.edu.utfpr.bankapi.controller;
+
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+
+// Sem @Transactional: cada bloco é gravado na sua própria transação
+@SpringBootTest(properties = "bankapi.account-import.chunk-size=2")
+@AutoConfigureMockMvc
+public class AccountImportControllerTest {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    private static final List<Long> NUMEROS = List.of(91001L, 91002L, 91003L, 91004L, 91005L);
+
+    @AfterEach
+    void limpar() {
+        accountRepository.deleteAll(accountRepository.findByNumberIn(NUMEROS));
+    }
+
+    @Test
+    void deveriaImportarCsvComRelatorioDeErrosPorLinha() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("Existente", 91005, 0, 0));
+
+        var csv = """
+                number,name,specialLimit
+                91001,"Doe, John",150.5
+                91002,Jane Doe,
+
+                91001,John Again,0
+                91003,,0
+                abc,Sem Número,0
+                91005,Duplicada no Banco,0
+                91004,Maria,10
+                """;
+
+        // ACT + ASSERT
+        mvc.perform(MockMvcRequestBuilders.post("/account/import")
+                .content(csv)
+                .contentType("text/csv"))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported", Matchers.equalTo(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rejected", Matchers.equalTo(4)))
+                // Repetida em outro bloco: encontrada no banco
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].line", Matchers.equalTo(5)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].error", Matchers.equalTo("Conta 91001 já existe")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].line", Matchers.equalTo(6)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].error", Matchers.startsWith("name:")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[2].line", Matchers.equalTo(7)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[3].number", Matchers.equalTo(91005)));
+
+        var john = accountRepository.getByNumber(91001).orElseThrow();
+        Assertions.assertEquals("Doe, John", john.getName());
+        Assertions.assertEquals(15050, john.getSpecialLimit());
+        Assertions.assertEquals(0, john.getBalance());
+        Assertions.assertTrue(accountRepository.existsByNumber(91004));
+    }
+
+    @Test
+    void deveriaImportarNdjsonRejeitandoRepetidasNoMesmoBloco() throws Exception {
+        // ARRANGE
+        var ndjson = """
+                { "name": "John Doe", "number": 91001, "specialLimit": 100 }
+                { "name": "John Again", "number": 91001 }
+                { "name": "Jane Doe", "number": 91002, "specialLimit": -1 }
+                { "name": "Maria"
+                { "name": "Ana", "number": 91003 }
+                """;
+
+        // ACT + ASSERT
+        mvc.perform(MockMvcRequestBuilders.post("/account/import")
+                .content(ndjson)
+                .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported", Matchers.equalTo(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors.length()", Matchers.equalTo(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].error",
+                        Matchers.equalTo("Conta 91001 repetida no arquivo")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].error", Matchers.startsWith("specialLimit:")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[2].line", Matchers.equalTo(4)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[2].error", Matchers.startsWith("JSON inválido")));
+
+        Assertions.assertTrue(accountRepository.existsByNumber(91003));
+    }
+
+    @Test
+    void deveriaRecusarCsvSemCabecalhoValido() throws Exception {
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.post("/account/import")
+                .content("91001,John Doe\n")
+                .contentType("text/csv"))
+                .andReturn().getResponse();
+
+        // ASSERT
+        Assertions.assertEquals(400, res.getStatus());
+    }
+}
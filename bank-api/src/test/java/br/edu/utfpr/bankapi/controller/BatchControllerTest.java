@@ -0,0 +1,136 @@
+package br.edu.utfpr.bankapi.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import br.edu.utfpr.bankapi.model.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest(properties = "bankapi.batch.chunk-size=2")
+@AutoConfigureMockMvc
+@Transactional
+public class BatchControllerTest {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void deveriaProcessarLoteComResultadoPorOperacao() throws Exception {
+        // ARRANGE
+        Account source = new Account("John Doe", 12345, 10000, 0);
+        Account receiver = new Account("Jane Doe", 67890, 0, 0);
+        entityManager.persist(source);
+        entityManager.persist(receiver);
+
+        var json = """
+                    [
+                        { "type": "DEPOSIT", "receiverAccountNumber": 12345, "amount": 50 },
+                        { "type": "TRANSFER", "sourceAccountNumber": 12345, "receiverAccountNumber": 67890, "amount": 120 },
+                        { "type": "WITHDRAW", "sourceAccountNumber": 12345, "amount": 100 },
+                        { "type": "DEPOSIT", "receiverAccountNumber": 99999, "amount": 10 }
+                    ]
+                """;
+
+        // ACT + ASSERT
+        mvc.perform(MockMvcRequestBuilders.post("/transaction/batch")
+                .content(json)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()", Matchers.equalTo(4)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].success", Matchers.equalTo(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].success", Matchers.equalTo(true)))
+                // Saldo restante (30) insuficiente para o saque
+                .andExpect(MockMvcResultMatchers.jsonPath("$[2].success", Matchers.equalTo(false)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[3].index", Matchers.equalTo(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[3].error", Matchers.equalTo("Conta 99999 inexistente")));
+
+        Assertions.assertEquals(3000, source.getBalance());
+        Assertions.assertEquals(12000, receiver.getBalance());
+    }
+
+    @Test
+    void deveriaProcessarLoteEmNdjson() throws Exception {
+        // ARRANGE
+        Account account = new Account("John Doe", 12345, 0, 0);
+        entityManager.persist(account);
+
+        var ndjson = """
+                { "type": "DEPOSIT", "receiverAccountNumber": 12345, "amount": 10 }
+                { "type": "DEPOSIT", "receiverAccountNumber": 12345, "amount": 20 }
+
+                { "type": "WITHDRAW", "sourceAccountNumber": 12345, "amount": 5 }
+                """;
+
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.post("/transaction/batch")
+                .content(ndjson)
+                .contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse();
+
+        // ASSERT
+        Assertions.assertEquals(201, res.getStatus());
+        Assertions.assertEquals(3, res.getContentAsString().strip().split("\n").length);
+        Assertions.assertEquals(2500, account.getBalance());
+    }
+
+    @Test
+    void deveriaRejeitarLinhaInvalidaEContinuarLoteEmNdjson() throws Exception {
+        // ARRANGE
+        Account account = new Account("John Doe", 12345, 0, 0);
+        entityManager.persist(account);
+
+        var ndjson = """
+                { "type": "DEPOSIT", "receiverAccountNumber": 12345, "amount": 10 }
+                { "type": "DEPOSIT", "receiverAccountNumber":
+                { "type": "DEPOSIT", "receiverAccountNumber": 12345, "amount": 20 }
+                """;
+
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.post("/transaction/batch")
+                .content(ndjson)
+                .contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse();
+
+        // ASSERT: a linha 2 é rejeitada e a 3 é gravada
+        var linhas = res.getContentAsString(StandardCharsets.UTF_8).strip().split("\n");
+        Assertions.assertEquals(201, res.getStatus());
+        Assertions.assertEquals(3, linhas.length);
+        Assertions.assertTrue(linhas[1].contains("\"index\":1,\"success\":false"), linhas[1]);
+        Assertions.assertTrue(linhas[1].contains("JSON inválido"), linhas[1]);
+        Assertions.assertTrue(linhas[2].contains("\"success\":true"), linhas[2]);
+        Assertions.assertEquals(3000, account.getBalance());
+    }
+
+    @Test
+    void deveriaRejeitarIdempotencyKeyNoLoteEmNdjson() throws Exception {
+        // ARRANGE
+        Account account = new Account("John Doe", 12345, 0, 0);
+        entityManager.persist(account);
+
+        var ndjson = """
+                { "type": "DEPOSIT", "receiverAccountNumber": 12345, "amount": 10 }
+                """;
+
+        // ACT + ASSERT: nenhuma operação é executada
+        mvc.perform(MockMvcRequestBuilders.post("/transaction/batch")
+                .header("Idempotency-Key", "lote-1")
+                .content(ndjson)
+                .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Assertions.assertEquals(0, account.getBalance());
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Money;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
@@ -95,7 +96,7 @@ public class DepositControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.receiverAccount.number",
                         Matchers.equalTo(987654321)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.receiverAccount.balance",
-                        Matchers.equalTo(account.getBalance())))
+                        Matchers.equalTo(Money.toUnits(account.getBalance()))))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.amount", Matchers.equalTo(200.0)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.type", Matchers.equalTo("DEPOSIT")));
     }
@@ -32,8 +32,8 @@ public class TransactionControllerTest {
     @Test
     void deveriaRetornar201ParaTransferenciaValida() throws Exception {
         // ARRANGE
-        Account sourceAccount = new Account("John Doe", 12345, 1000, 500);
-        Account receiverAccount = new Account("Jane Doe", 67890, 500, 300);
+        Account sourceAccount = new Account("John Doe", 12345, 100000, 50000);
+        Account receiverAccount = new Account("Jane Doe", 67890, 50000, 30000);
         entityManager.persist(sourceAccount);
         entityManager.persist(receiverAccount);
 
@@ -75,7 +75,7 @@ public class TransactionControllerTest {
     @Test
     void deveriaRetornar201ParaSaqueValido() throws Exception {
         // ARRANGE
-        Account sourceAccount = new Account("John Doe", 12345, 1000, 500);
+        Account sourceAccount = new Account("John Doe", 12345, 100000, 50000);
         entityManager.persist(sourceAccount);
 
         var json = """
@@ -111,4 +111,64 @@ public class TransactionControllerTest {
         // ASSERT
         Assertions.assertEquals(400, res.getStatus());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void deveriaRepetirRespostaParaMesmaIdempotencyKey() throws Exception {
+        // ARRANGE
+        Account sourceAccount = new Account("John Doe", 12345, 100000, 50000);
+        entityManager.persist(sourceAccount);
+
+        var json = """
+                    {
+                        "sourceAccountNumber": 12345,
+                        "amount": 200
+                    }
+                """;
+
+        // ACT
+        var first = mvc.perform(
+                MockMvcRequestBuilders.post("/transaction/withdraw")
+                        .header("Idempotency-Key", "saque-1")
+                        .content(json)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse();
+        var second = mvc.perform(
+                MockMvcRequestBuilders.post("/transaction/withdraw")
+                        .header("Idempotency-Key", "saque-1")
+                        .content(json)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse();
+
+        // ASSERT: o saque é aplicado uma única vez
+        Assertions.assertEquals(201, first.getStatus());
+        Assertions.assertEquals(201, second.getStatus());
+        Assertions.assertEquals("true", second.getHeader("Idempotent-Replayed"));
+        Assertions.assertEquals(first.getContentAsString(), second.getContentAsString());
+        entityManager.refresh(sourceAccount);
+        Assertions.assertEquals(80000, sourceAccount.getBalance());
+    }
+
+    @Test
+    void deveriaRetornar422ParaIdempotencyKeyComOutraRequisicao() throws Exception {
+        // ARRANGE
+        Account sourceAccount = new Account("John Doe", 12345, 100000, 50000);
+        entityManager.persist(sourceAccount);
+
+        mvc.perform(
+                MockMvcRequestBuilders.post("/transaction/withdraw")
+                        .header("Idempotency-Key", "saque-2")
+                        .content("{\"sourceAccountNumber\": 12345, \"amount\": 200}")
+                        .contentType(MediaType.APPLICATION_JSON));
+
+        // ACT
+        var res = mvc.perform(
+                MockMvcRequestBuilders.post("/transaction/withdraw")
+                        .header("Idempotency-Key", "saque-2")
+                        .content("{\"sourceAccountNumber\": 12345, \"amount\": 300}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse();
+
+        // ASSERT
+        Assertions.assertEquals(422, res.getStatus());
+    }
+}
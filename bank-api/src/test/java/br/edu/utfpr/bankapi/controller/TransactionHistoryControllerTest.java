@@ -0,0 +1,176 @@
+package br.edu.utfpr.bankapi.controller;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.jayway.jsonpath.JsonPath;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class TransactionHistoryControllerTest {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private Account john;
+    private Account jane;
+
+    private void persistir(Account source, Account receiver, long amount, TransactionType type, int dia) {
+        var transaction = new Transaction();
+        transaction.setSourceAccount(source);
+        transaction.setReceiverAccount(receiver);
+        transaction.setAmount(amount);
+        transaction.setType(type);
+        transaction.setDateTime(LocalDateTime.of(2024, 4, dia, 12, 0));
+        entityManager.persist(transaction);
+    }
+
+    private void cenario() {
+        john = new Account("John Doe", 12345, 100000, 0);
+        jane = new Account("Jane Doe", 67890, 100000, 0);
+        entityManager.persist(john);
+        entityManager.persist(jane);
+
+        persistir(null, john, 10000, TransactionType.DEPOSIT, 1);
+        persistir(john, jane, 5000, TransactionType.TRANSFER, 2);
+        persistir(jane, john, 2000, TransactionType.TRANSFER, 3);
+        persistir(john, null, 1000, TransactionType.WITHDRAW, 4);
+        persistir(null, jane, 500, TransactionType.DEPOSIT, 5);
+    }
+
+    @Test
+    void deveriaRetornarExtratoDaMaisRecenteParaAMaisAntiga() throws Exception {
+        // ARRANGE
+        cenario();
+
+        // ACT + ASSERT: apenas as 4 transações da conta 12345
+        mvc.perform(MockMvcRequestBuilders.get("/transaction/history/12345"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()", Matchers.equalTo(4)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].type", Matchers.equalTo("WITHDRAW")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].sourceAccountNumber", Matchers.equalTo(67890)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[3].type", Matchers.equalTo("DEPOSIT")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", Matchers.nullValue()));
+    }
+
+    @Test
+    void deveriaPaginarOExtrato() throws Exception {
+        // ARRANGE
+        cenario();
+
+        // ACT
+        var pagina1 = mvc.perform(MockMvcRequestBuilders.get("/transaction/history/12345").param("size", "3"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()", Matchers.equalTo(3)))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(pagina1, "$.nextCursor");
+
+        // ASSERT
+        mvc.perform(MockMvcRequestBuilders.get("/transaction/history/12345")
+                .param("size", "3").param("cursor", cursor))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()", Matchers.equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].amount", Matchers.equalTo(100.0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", Matchers.nullValue()));
+    }
+
+    @Test
+    void deveriaFiltrarPorPeriodoETipo() throws Exception {
+        // ARRANGE
+        cenario();
+
+        // ACT + ASSERT
+        mvc.perform(MockMvcRequestBuilders.get("/transaction/history/12345")
+                .param("from", "2024-04-02T00:00:00")
+                .param("to", "2024-04-04T00:00:00")
+                .param("type", "TRANSFER"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()", Matchers.equalTo(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].amount", Matchers.equalTo(20.0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].amount", Matchers.equalTo(50.0)));
+    }
+
+    @Test
+    void deveriaRetornar404ParaContaInexistente() throws Exception {
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.get("/transaction/history/99999"))
+                .andReturn().getResponse();
+
+        // ASSERT
+        Assertions.assertEquals(404, res.getStatus());
+    }
+
+    @Test
+    void deveriaExportarExtratoEmCsvDaMaisAntigaParaAMaisRecente() throws Exception {
+        // ARRANGE
+        cenario();
+
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.get("/transaction/statement/12345"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Disposition",
+                        Matchers.containsString("statement-12345.csv")))
+                .andReturn().getResponse().getContentAsString();
+
+        // ASSERT: cabeçalho e as 4 transações da conta 12345
+        var linhas = res.split("\n");
+        Assertions.assertEquals(5, linhas.length);
+        Assertions.assertEquals("id,type,amount,dateTime,sourceAccountNumber,receiverAccountNumber", linhas[0]);
+        Assertions.assertTrue(linhas[1].endsWith(",DEPOSIT,100.00,2024-04-01T12:00,,12345"));
+        Assertions.assertTrue(linhas[3].endsWith(",TRANSFER,20.00,2024-04-03T12:00,67890,12345"));
+        Assertions.assertTrue(linhas[4].endsWith(",WITHDRAW,10.00,2024-04-04T12:00,12345,"));
+    }
+
+    @Test
+    void deveriaExportarExtratoEmNdjsonComGzip() throws Exception {
+        // ARRANGE
+        cenario();
+
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.get("/transaction/statement/67890")
+                .param("format", "ndjson")
+                .param("from", "2024-04-03T00:00:00")
+                .header("Accept-Encoding", "gzip"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // ASSERT
+        var linhas = new String(new GZIPInputStream(new ByteArrayInputStream(res)).readAllBytes(),
+                StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, linhas.length);
+        Assertions.assertEquals(20.0, (Double) JsonPath.read(linhas[0], "$.amount"));
+        Assertions.assertEquals("DEPOSIT", JsonPath.read(linhas[1], "$.type"));
+    }
+
+    @Test
+    void deveriaRecusarFormatoDeExtratoInvalido() throws Exception {
+        // ARRANGE
+        cenario();
+
+        // ACT
+        var res = mvc.perform(MockMvcRequestBuilders.get("/transaction/statement/12345").param("format", "xml"))
+                .andReturn().getResponse();
+
+        // ASSERT
+        Assertions.assertEquals(400, res.getStatus());
+    }
+}
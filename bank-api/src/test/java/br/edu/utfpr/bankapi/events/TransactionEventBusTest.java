@@ -0,0 +1,91 @@
+package br.edu.utfpr.bankapi.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Transaction;
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+public class TransactionEventBusTest {
+
+    @SuppressWarnings("unchecked")
+    private TransactionEventBus bus(int bufferSize, String overflow, TransactionEventConsumer... consumers) {
+        ObjectProvider<TransactionEventConsumer> provider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(provider.orderedStream()).thenAnswer(invocation -> List.of(consumers).stream());
+        var bus = new TransactionEventBus(provider, bufferSize, 4, overflow, 10);
+        bus.start();
+        return bus;
+    }
+
+    private static TransactionEventConsumer consumer(String name, List<Long> amounts, CountDownLatch gate) {
+        return new TransactionEventConsumer() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void onEvents(List<TransactionEvent> events) throws InterruptedException {
+                gate.await();
+                Assertions.assertTrue(events.size() <= 4);
+                for (var event : events)
+                    amounts.add(event.amount());
+            }
+        };
+    }
+
+    private static Transaction deposit(long amount) {
+        return new Transaction(null, new Account("John Doe", 1, 0, 0), amount, TransactionType.DEPOSIT);
+    }
+
+    @Test
+    void deveriaEntregarTodosOsEventosEmOrdemACadaConsumidor() throws InterruptedException {
+        // ARRANGE
+        var open = new CountDownLatch(0);
+        var first = Collections.synchronizedList(new ArrayList<Long>());
+        var second = Collections.synchronizedList(new ArrayList<Long>());
+        var bus = bus(8, "block", consumer("a", first, open), consumer("b", second, open));
+
+        // ACT: mais eventos do que posições no buffer
+        for (long i = 1; i <= 100; i++)
+            Assertions.assertTrue(bus.publish(deposit(i)));
+        bus.stop();
+
+        // ASSERT
+        var expected = new ArrayList<Long>();
+        for (long i = 1; i <= 100; i++)
+            expected.add(i);
+        Assertions.assertEquals(expected, first);
+        Assertions.assertEquals(expected, second);
+        Assertions.assertEquals(0, bus.dropped());
+    }
+
+    @Test
+    void deveriaDescartarComBufferCheio() throws InterruptedException {
+        // ARRANGE: consumidor parado até o fim do teste
+        var gate = new CountDownLatch(1);
+        var amounts = Collections.synchronizedList(new ArrayList<Long>());
+        var bus = bus(4, "drop", consumer("lento", amounts, gate));
+
+        // ACT
+        int accepted = 0;
+        for (long i = 1; i <= 10; i++)
+            if (bus.publish(deposit(i)))
+                accepted++;
+        gate.countDown();
+        bus.stop();
+
+        // ASSERT: as posições só são liberadas após o processamento do lote
+        Assertions.assertEquals(4, accepted);
+        Assertions.assertEquals(6, bus.dropped());
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), amounts);
+    }
+}
@@ -0,0 +1,134 @@
+package br.edu.utfpr.bankapi.idempotency;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+
+public class IdempotencyStoreTest {
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setup() {
+        store = new IdempotencyStore(2, 60, false, 3600);
+        ReflectionTestUtils.setField(store, "objectMapper", new ObjectMapper());
+    }
+
+    @Test
+    void deveriaExecutarUmaVezRequisicoesConcorrentes() throws Exception {
+        // ARRANGE: a primeira execução só termina depois que as demais chegam
+        var executions = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var dto = new DepositDTO(1, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // ACT
+        var results = new ArrayList<Future<ResponseEntity<Object>>>();
+        for (int i = 0; i < 4; i++) {
+            Callable<ResponseEntity<Object>> call = () -> store.execute("k", "deposit", dto, () -> {
+                executions.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return ResponseEntity.status(201).body("ok");
+            });
+            results.add(executor.submit(call));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // ASSERT
+        for (var result : results)
+            Assertions.assertEquals("ok", result.get(5, TimeUnit.SECONDS).getBody());
+        Assertions.assertEquals(1, executions.get());
+        Assertions.assertEquals(3, store.replays());
+        executor.shutdown();
+    }
+
+    @Test
+    void naoDeveriaGuardarRespostaDeErro() {
+        // ARRANGE
+        var executions = new AtomicInteger();
+        var dto = new DepositDTO(1, 100);
+
+        // ACT
+        for (int i = 0; i < 2; i++)
+            store.execute("k", "deposit", dto, () -> {
+                executions.incrementAndGet();
+                return ResponseEntity.badRequest().body("erro");
+            });
+
+        // ASSERT
+        Assertions.assertEquals(2, executions.get());
+        Assertions.assertEquals(0, store.size());
+    }
+
+    @Test
+    void deveriaDescartarChavesMaisAntigasAcimaDoLimite() {
+        // ACT
+        for (var key : new String[] { "a", "b", "c" })
+            store.execute(key, "deposit", new DepositDTO(1, 100), () -> ResponseEntity.status(201).body(key));
+
+        // ASSERT: limite de 2 chaves
+        Assertions.assertEquals(2, store.size());
+        Assertions.assertEquals(1, store.evictions());
+        var res = store.execute("a", "deposit", new DepositDTO(1, 100), () -> ResponseEntity.status(201).body("nova"));
+        Assertions.assertEquals("nova", res.getBody());
+    }
+
+    @Test
+    void naoDeveriaDescartarChaveEmExecucao() throws Exception {
+        // ARRANGE: limite de 1 chave; "a" ainda está em execução quando "b" chega
+        store = new IdempotencyStore(1, 60, false, 3600);
+        ReflectionTestUtils.setField(store, "objectMapper", new ObjectMapper());
+        var executions = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var dto = new DepositDTO(1, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        var first = executor.submit(() -> store.execute("a", "deposit", dto, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return ResponseEntity.status(201).body("a");
+        }));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // ACT: "b" passa do limite e a repetição de "a" chega durante a execução
+        store.execute("b", "deposit", dto, () -> ResponseEntity.status(201).body("b"));
+        var retry = executor.submit(() -> store.execute("a", "deposit", dto, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(201).body("de novo");
+        }));
+        Thread.sleep(200);
+        release.countDown();
+
+        // ASSERT: a repetição recebe a resposta original, sem nova execução
+        Assertions.assertEquals("a", first.get(5, TimeUnit.SECONDS).getBody());
+        Assertions.assertEquals("a", retry.get(5, TimeUnit.SECONDS).getBody());
+        Assertions.assertEquals(1, executions.get());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,128 @@
+package br.edu.utfpr.bankapi.journal;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import br.edu.utfpr.bankapi.service.TransactionService;
+
+/**
+ * Uma conta bloqueada por uma requisição segura apenas o bloco do journal em
+ * que está: os blocos anteriores são gravados enquanto ela aguarda.
+ */
+@SpringBootTest(properties = {
+        "bankapi.journal.enabled=true",
+        "bankapi.journal.drain-interval-millis=600000",
+        "bankapi.journal.lock-batch-size=2",
+        "bankapi.concurrency.stripes=65536" })
+public class JournalDrainerTest {
+    static final String directory = "target/test-journal/" + UUID.randomUUID();
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) {
+        registry.add("bankapi.journal.directory", () -> directory);
+    }
+
+    @Autowired
+    TransactionService transactionService;
+
+    @Autowired
+    JournalDrainer drainer;
+
+    @Autowired
+    AccountLockStrategy accountLockStrategy;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    @AfterEach
+    void limpar() throws Exception {
+        drainer.drain();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    private long saldo(long number) {
+        return accountRepository.getByNumber(number).get().getBalance();
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite)
+            Thread.sleep(10);
+        Assertions.assertTrue(condicao.getAsBoolean());
+    }
+
+    @Test
+    void deveriaGravarOsBlocosAnterioresAUmaContaBloqueada() throws Exception {
+        // ARRANGE: um depósito em cada conta; blocos de 2 contas
+        for (long number = 30001; number <= 30006; number++) {
+            accountRepository.save(new Account("Conta " + number, number, 0, 0));
+            transactionService.deposit(new DepositDTO(number, 100));
+        }
+
+        // A conta 30005 (terceiro bloco) fica bloqueada por outra operação
+        var bloqueou = new CountDownLatch(1);
+        var liberar = new CountDownLatch(1);
+        var lock = CompletableFuture.runAsync(() -> {
+            try {
+                accountLockStrategy.execute(() -> {
+                    bloqueou.countDown();
+                    try {
+                        liberar.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                }, 30005);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Assertions.assertTrue(bloqueou.await(10, TimeUnit.SECONDS));
+
+        // ACT
+        var gravacao = CompletableFuture.runAsync(() -> {
+            try {
+                drainer.drain();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        // ASSERT: os dois primeiros blocos são gravados enquanto o terceiro espera
+        try {
+            aguardar(() -> saldo(30004) == 100);
+            Assertions.assertEquals(100, saldo(30001));
+            Assertions.assertEquals(0, saldo(30005));
+            Assertions.assertEquals(0, saldo(30006));
+            Assertions.assertFalse(gravacao.isDone());
+        } finally {
+            liberar.countDown();
+        }
+
+        lock.get(10, TimeUnit.SECONDS);
+        gravacao.get(20, TimeUnit.SECONDS);
+        for (long number = 30001; number <= 30006; number++)
+            Assertions.assertEquals(100, saldo(number));
+        Assertions.assertEquals(6, transactionRepository.count());
+    }
+}
@@ -0,0 +1,79 @@
+package br.edu.utfpr.bankapi.journal;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.edu.utfpr.bankapi.model.TransactionType;
+
+public class JournalSegmentTest {
+    @TempDir
+    Path directory;
+
+    private JournalEntry entry(long sequence) {
+        return new JournalEntry(sequence, 100 + sequence, TransactionType.TRANSFER, 12345L, 67890L, sequence * 1000,
+                LocalDateTime.of(2024, 4, 1, 10, 30));
+    }
+
+    @Test
+    void deveriaLerOsRegistrosGravados() throws Exception {
+        // ARRANGE
+        var segment = JournalSegment.create(directory, 1, 4096);
+        segment.append(entry(1));
+        segment.append(new JournalEntry(2, 102, TransactionType.DEPOSIT, null, 67890L, 550,
+                LocalDateTime.of(2024, 4, 1, 10, 31)));
+        segment.force();
+        segment.close();
+
+        // ACT
+        var entries = new ArrayList<JournalEntry>();
+        JournalSegment.open(segment.path(), entries).close();
+
+        // ASSERT
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals(entry(1), entries.get(0));
+        Assertions.assertNull(entries.get(1).sourceAccountNumber());
+        Assertions.assertEquals(TransactionType.DEPOSIT, entries.get(1).type());
+    }
+
+    @Test
+    void deveriaRecusarRegistroQuandoSegmentoEstaCheio() throws Exception {
+        // ARRANGE
+        var segment = JournalSegment.create(directory, 1, 128);
+
+        // ACT + ASSERT
+        Assertions.assertTrue(segment.append(entry(1)));
+        Assertions.assertTrue(segment.append(entry(2)));
+        Assertions.assertFalse(segment.append(entry(3)));
+        segment.close();
+    }
+
+    @Test
+    void deveriaIgnorarRegistroCorrompido() throws Exception {
+        // ARRANGE
+        var segment = JournalSegment.create(directory, 1, 4096);
+        segment.append(entry(1));
+        segment.append(entry(2));
+        segment.force();
+        segment.close();
+
+        // Corrompe um byte do segundo registro (escrita incompleta)
+        try (var file = new RandomAccessFile(segment.path().toFile(), "rw")) {
+            file.seek(2 * (8 + JournalEntry.SIZE) - 1);
+            file.write(0x7f);
+        }
+
+        // ACT
+        var entries = new ArrayList<JournalEntry>();
+        JournalSegment.open(segment.path(), entries).close();
+
+        // ASSERT
+        Assertions.assertEquals(1, entries.size());
+        Assertions.assertEquals(1, entries.get(0).sequence());
+    }
+}
@@ -0,0 +1,154 @@
+package br.edu.utfpr.bankapi.journal;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.JournalCheckpointRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import br.edu.utfpr.bankapi.service.AccountService;
+import br.edu.utfpr.bankapi.service.TransactionService;
+
+@SpringBootTest(properties = {
+        "bankapi.journal.enabled=true",
+        "bankapi.journal.segment-size=4096",
+        "bankapi.journal.drain-interval-millis=600000" })
+public class TransactionJournalTest {
+    static final String directory = "target/test-journal/" + UUID.randomUUID();
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) {
+        registry.add("bankapi.journal.directory", () -> directory);
+    }
+
+    @Autowired
+    TransactionService transactionService;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    TransactionJournal journal;
+
+    @Autowired
+    JournalDrainer drainer;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    @Autowired
+    JournalCheckpointRepository checkpointRepository;
+
+    @AfterEach
+    void limpar() throws Exception {
+        drainer.drain();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    private void depositar(long number, long amount) throws Exception {
+        transactionService.deposit(new DepositDTO(number, amount));
+    }
+
+    @Test
+    void deveriaGravarNoBancoEmSegundoPlano() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 12345, 0, 0));
+
+        // ACT: 100 depósitos de 0,10 (vários segmentos de 4 KB)
+        for (int i = 0; i < 100; i++)
+            depositar(12345, 10);
+
+        // ASSERT: o banco ainda não foi alterado, mas o saldo pendente é considerado
+        Assertions.assertEquals(0, accountRepository.getByNumber(12345).get().getBalance());
+        Assertions.assertEquals(1000, journal.pendingDelta(12345));
+
+        drainer.drain();
+
+        Assertions.assertEquals(1000, accountRepository.getByNumber(12345).get().getBalance());
+        Assertions.assertEquals(0, journal.pendingDelta(12345));
+        Assertions.assertEquals(100, transactionRepository.count());
+    }
+
+    @Test
+    void deveriaGravarATransacaoComOIdDevolvido() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 12345, 0, 0));
+
+        // ACT
+        var first = transactionService.deposit(new DepositDTO(12345, 10));
+        var second = transactionService.deposit(new DepositDTO(12345, 20));
+        drainer.drain();
+
+        // ASSERT: o id é reservado antes do journal e usado na inclusão pelo drainer
+        Assertions.assertNotEquals(0, first.getId());
+        Assertions.assertNotEquals(first.getId(), second.getId());
+        Assertions.assertEquals(10, transactionRepository.findById(first.getId()).get().getAmount());
+        Assertions.assertEquals(20, transactionRepository.findById(second.getId()).get().getAmount());
+        Assertions.assertEquals(2, transactionRepository.count());
+    }
+
+    @Test
+    void deveriaConsultarSaldoComOperacoesPendentes() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 12345, 0, 0));
+
+        // ACT
+        depositar(12345, 100);
+
+        // ASSERT: a consulta da conta já considera a operação confirmada ao cliente
+        Assertions.assertEquals(0, accountRepository.getByNumber(12345).get().getBalance());
+        Assertions.assertEquals(100, accountService.getByNumber(12345).get().getBalance());
+        Assertions.assertEquals(100, accountService.getAll().get(0).getBalance());
+        Assertions.assertEquals(100, accountService.getBalance(12345, null).balance());
+    }
+
+    @Test
+    void deveriaValidarSaldoComOperacoesPendentes() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 12345, 0, 0));
+        depositar(12345, 100);
+
+        // ACT + ASSERT
+        Assertions.assertDoesNotThrow(() -> transactionService.withdraw(new WithdrawDTO(12345, 80)));
+        Assertions.assertThrows(WithoutBalanceException.class,
+                () -> transactionService.withdraw(new WithdrawDTO(12345, 80)));
+    }
+
+    @Test
+    void deveriaRecuperarOperacoesNaoGravadasAposQueda() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 12345, 0, 0));
+        depositar(12345, 10);
+        drainer.drain();
+        var second = transactionService.deposit(new DepositDTO(12345, 20));
+        var third = transactionService.deposit(new DepositDTO(12345, 30));
+
+        // ACT: um novo journal sobre o mesmo diretório simula o reinício do processo
+        var recovered = new TransactionJournal(directory, 4096, "striped", checkpointRepository);
+        recovered.recover();
+
+        // ASSERT: apenas as operações posteriores ao checkpoint são recuperadas,
+        // com os ids já devolvidos ao cliente
+        Assertions.assertEquals(50, recovered.pendingDelta(12345));
+        var entries = recovered.poll(100);
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals(second.getId(), entries.get(0).transactionId());
+        Assertions.assertEquals(third.getId(), entries.get(1).transactionId());
+        recovered.close();
+    }
+}
@@ -0,0 +1,132 @@
+package br.edu.utfpr.bankapi.ledger;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.edu.utfpr.bankapi.dto.DepositDTO;
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.Posting;
+import br.edu.utfpr.bankapi.repository.BalanceSnapshotRepository;
+import br.edu.utfpr.bankapi.repository.PostingRepository;
+import br.edu.utfpr.bankapi.service.AccountService;
+import br.edu.utfpr.bankapi.service.TransactionService;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest(properties = {
+        "bankapi.ledger.enabled=true",
+        "bankapi.ledger.snapshot-threshold=2",
+        "bankapi.ledger.compaction-interval-seconds=3600" })
+@Transactional
+public class PostingLedgerTest {
+
+    @Autowired
+    PostingLedger ledger;
+
+    @Autowired
+    TransactionService transactionService;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    PostingRepository postingRepository;
+
+    @Autowired
+    BalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void deveriaGerarLancamentosSemAlterarLinhaDaConta() throws Exception {
+        // ARRANGE
+        var source = new Account("John Doe", 12345, 100000, 0);
+        var receiver = new Account("Jane Doe", 67890, 50000, 0);
+        entityManager.persist(source);
+        entityManager.persist(receiver);
+
+        // ACT
+        var transaction = transactionService.transfer(new TransferDTO(12345, 67890, 20000));
+        entityManager.flush();
+        entityManager.clear();
+
+        // ASSERT: débito e crédito somando zero; o saldo gravado na conta não muda
+        var postings = postingRepository.findAll();
+        Assertions.assertEquals(2, postings.size());
+        Assertions.assertEquals(0, postings.stream().mapToLong(Posting::getAmount).sum());
+        Assertions.assertTrue(postings.stream().allMatch(p -> p.getTransactionId() == transaction.getId()));
+
+        Assertions.assertEquals(100000, entityManager.find(Account.class, source.getId()).getBalance());
+        Assertions.assertEquals(80000, accountService.getByNumber(12345).get().getBalance());
+        Assertions.assertEquals(70000, accountService.getByNumber(67890).get().getBalance());
+    }
+
+    @Test
+    void deveriaValidarSaldoDerivadoDosLancamentos() throws Exception {
+        // ARRANGE
+        entityManager.persist(new Account("John Doe", 12345, 10000, 0));
+        transactionService.withdraw(new WithdrawDTO(12345, 8000));
+
+        // ACT + ASSERT: o saldo da linha (10000) permitiria o saque
+        Assertions.assertThrows(WithoutBalanceException.class,
+                () -> transactionService.withdraw(new WithdrawDTO(12345, 8000)));
+    }
+
+    @Test
+    void deveriaCompactarESaberSaldoEmDataAnterior() throws Exception {
+        // ARRANGE
+        var account = new Account("John Doe", 12345, 0, 0);
+        entityManager.persist(account);
+        transactionService.deposit(new DepositDTO(12345, 1000));
+        transactionService.deposit(new DepositDTO(12345, 2000));
+        var intermediario = LocalDateTime.now();
+        Thread.sleep(5);
+        transactionService.deposit(new DepositDTO(12345, 4000));
+
+        // ACT
+        int snapshots = ledger.compact();
+
+        // ASSERT
+        Assertions.assertEquals(1, snapshots);
+        var snapshot = snapshotRepository.findFirstByKeyAccountIdOrderByKeyLastSequenceDesc(account.getId()).get();
+        Assertions.assertEquals(3, snapshot.getKey().getLastSequence());
+        Assertions.assertEquals(7000, snapshot.getBalance());
+
+        transactionService.deposit(new DepositDTO(12345, 8000));
+        Assertions.assertEquals(15000, ledger.balance(account));
+        Assertions.assertEquals(3000, ledger.balanceAt(account, intermediario));
+        Assertions.assertEquals(0, ledger.balanceAt(account, intermediario.minusDays(1)));
+    }
+
+    @Test
+    void deveriaSaberSaldoEmDataAnteriorComVariosSnapshotsDepois() throws Exception {
+        // ARRANGE: 20 depósitos de 1,00, com um snapshot a cada 2
+        var account = new Account("John Doe", 12345, 500, 0);
+        entityManager.persist(account);
+        var datas = new ArrayList<LocalDateTime>();
+        for (int i = 0; i < 20; i++) {
+            transactionService.deposit(new DepositDTO(12345, 100));
+            if (i % 2 == 1)
+                Assertions.assertEquals(1, ledger.compact());
+            Thread.sleep(2);
+            datas.add(LocalDateTime.now());
+            Thread.sleep(2);
+        }
+
+        // ACT + ASSERT: o saldo após cada depósito, inclusive entre snapshots e
+        // antes do primeiro, seguido de vários snapshots
+        Assertions.assertEquals(500, ledger.balanceAt(account, datas.get(0).minusDays(1)));
+        for (int i = 0; i < 20; i++)
+            Assertions.assertEquals(500 + 100 * (i + 1), ledger.balanceAt(account, datas.get(i)));
+        Assertions.assertEquals(2500, ledger.balance(account));
+    }
+}
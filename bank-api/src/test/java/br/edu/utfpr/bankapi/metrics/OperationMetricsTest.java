@@ -0,0 +1,54 @@
+package br.edu.utfpr.bankapi.metrics;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import br.edu.utfpr.bankapi.model.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+public class OperationMetricsTest {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void deveriaPublicarMetricasDasOperacoesNoPrometheus() throws Exception {
+        // ARRANGE
+        entityManager.persist(new Account("John Doe", 12345, 10000, 0));
+
+        // ACT: um depósito aceito e um saque sem saldo
+        mvc.perform(MockMvcRequestBuilders.post("/transaction/deposit")
+                .content("{ \"receiverAccountNumber\": 12345, \"amount\": 50 }")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+        mvc.perform(MockMvcRequestBuilders.post("/transaction/withdraw")
+                .content("{ \"sourceAccountNumber\": 12345, \"amount\": 1000 }")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // ASSERT
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.allOf(
+                        Matchers.containsString("bankapi_operation_seconds_bucket{"),
+                        Matchers.matchesRegex("(?s).*bankapi_operation_seconds_count\\{[^}]*operation=\"deposit\",outcome=\"success\".*"),
+                        Matchers.matchesRegex("(?s).*bankapi_operation_step_seconds_count\\{[^}]*operation=\"deposit\",step=\"persistence\".*"),
+                        Matchers.matchesRegex("(?s).*bankapi_operation_rejections_total\\{[^}]*operation=\"withdraw\",reason=\"WithoutBalanceException\".*"),
+                        Matchers.containsString("hikaricp_connections_pending"),
+                        Matchers.containsString("bankapi_account_cache_hits_total"))));
+    }
+}
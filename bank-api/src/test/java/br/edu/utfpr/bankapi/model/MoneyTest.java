@@ -0,0 +1,49 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    void deveriaArredondarComoBigDecimalHalfEven() {
+        // ARRANGE
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            double valor = (random.nextDouble() - 0.5) * 2_000_000;
+
+            // ACT
+            long centavos = Money.ofUnits(valor);
+
+            // ASSERT
+            long esperado = new BigDecimal(valor).setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+            Assertions.assertEquals(esperado, centavos, "valor: " + valor);
+            Assertions.assertEquals(new BigDecimal(valor).setScale(2, RoundingMode.HALF_EVEN).doubleValue(),
+                    Money.toUnits(centavos));
+        }
+    }
+
+    @Test
+    void deveriaArredondarEmpatesParaOPar() {
+        // 0.125 e 0.375 são exatos em double: empates reais
+        Assertions.assertEquals(12, Money.ofUnits(0.125));
+        Assertions.assertEquals(38, Money.ofUnits(0.375));
+        Assertions.assertEquals(-12, Money.ofUnits(-0.125));
+
+        // 0.015 é um pouco menor que 0,015 em double
+        Assertions.assertEquals(1, Money.ofUnits(0.015));
+        Assertions.assertEquals(2, Money.roundHalfEven(2.5));
+        Assertions.assertEquals(4, Money.roundHalfEven(3.5));
+    }
+
+    @Test
+    void deveriaLancarExcecaoQuandoSomaEstoura() {
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.ofUnits(Double.NaN));
+    }
+}
@@ -0,0 +1,64 @@
+package br.edu.utfpr.bankapi.model;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.edu.utfpr.bankapi.Application;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@Transactional
+public class PooledSequenceGeneratorTest {
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void deveriaGerarIdsSequenciaisEmBlocos() {
+        // ARRANGE
+        var accounts = new ArrayList<Account>();
+        for (int i = 0; i < 2000; i++)
+            accounts.add(new Account("Conta " + i, 100_000 + i, 0, 0));
+
+        // ACT
+        accountRepository.saveAll(accounts);
+        entityManager.flush();
+
+        // ASSERT: ids atribuídos antes do INSERT e contíguos dentro de cada bloco
+        for (int i = 1; i < accounts.size(); i++)
+            Assertions.assertTrue(accounts.get(i).getId() > accounts.get(i - 1).getId());
+
+        Assertions.assertEquals(accounts.get(0).getId() + 49, accounts.get(49).getId());
+    }
+
+    @Test
+    void deveriaFalharNaInicializacaoComIncrementoDaSequenciaDiferenteDoAllocationSize() {
+        // ARRANGE: sequências já existentes com incremento 10, e não 50
+        var url = "jdbc:h2:mem:db_bankapi_seq;DB_CLOSE_DELAY=-1;INIT="
+                + "CREATE SEQUENCE IF NOT EXISTS tb_account_seq INCREMENT BY 10\\;"
+                + "CREATE SEQUENCE IF NOT EXISTS tb_transaction_seq INCREMENT BY 10";
+        var application = new SpringApplicationBuilder(Application.class).web(WebApplicationType.NONE);
+
+        // ACT + ASSERT
+        var exception = Assertions.assertThrows(BeanCreationException.class, () -> application.run(
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--logging.level.root=OFF"));
+
+        Throwable cause = exception;
+        while (cause.getCause() != null)
+            cause = cause.getCause();
+        Assertions.assertTrue(cause.getMessage().contains("tb_account_seq"), cause.getMessage());
+    }
+}
@@ -0,0 +1,84 @@
+package br.edu.utfpr.bankapi.partitioning;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionPartitionsTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TransactionPartitions partitions;
+
+    private void configurar(TransactionPartitions.Vendor vendor, int retentionMonths, String retentionAction,
+            List<String> existentes) {
+        ReflectionTestUtils.setField(partitions, "vendor", vendor);
+        ReflectionTestUtils.setField(partitions, "monthsAhead", 2);
+        ReflectionTestUtils.setField(partitions, "retentionMonths", retentionMonths);
+        ReflectionTestUtils.setField(partitions, "retentionAction", retentionAction);
+        BDDMockito.given(jdbcTemplate.queryForList(ArgumentMatchers.anyString(), ArgumentMatchers.eq(String.class),
+                ArgumentMatchers.<Object>any())).willReturn(existentes);
+    }
+
+    @Test
+    void deveriaCriarParticoesFuturasERetirarAsAntigasNoPostgres() {
+        // ARRANGE
+        configurar(TransactionPartitions.Vendor.POSTGRESQL, 12, "drop", List.of("tb_transaction_default",
+                "tb_transaction_p202508", "tb_transaction_p202509", "tb_transaction_p202510",
+                "tb_transaction_p202610"));
+
+        // ACT
+        partitions.maintain(YearMonth.of(2026, 10));
+
+        // ASSERT
+        Mockito.verify(jdbcTemplate).execute("create table if not exists tb_transaction_p202611 partition of "
+                + "tb_transaction for values from ('2026-11-01') to ('2026-12-01')");
+        Mockito.verify(jdbcTemplate).execute("create table if not exists tb_transaction_p202612 partition of "
+                + "tb_transaction for values from ('2026-12-01') to ('2027-01-01')");
+        Mockito.verify(jdbcTemplate).execute("alter table tb_transaction detach partition tb_transaction_p202508");
+        Mockito.verify(jdbcTemplate).execute("drop table tb_transaction_p202508");
+        Mockito.verify(jdbcTemplate).execute("drop table tb_transaction_p202509");
+        // 2025-10 ainda está na janela de 12 meses
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute("drop table tb_transaction_p202510");
+    }
+
+    @Test
+    void deveriaReorganizarPmaxEConverterParticoesNoMariadb() {
+        // ARRANGE
+        configurar(TransactionPartitions.Vendor.MARIADB, 1, "detach", List.of("p202608", "p202609", "pmax"));
+
+        // ACT
+        partitions.maintain(YearMonth.of(2026, 10));
+
+        // ASSERT: cria 2026-10 a 2026-12 e converte 2026-08 em tabela
+        Mockito.verify(jdbcTemplate).execute("alter table tb_transaction reorganize partition pmax into ("
+                + "partition p202610 values less than ('2026-11-01'), partition pmax values less than (maxvalue))");
+        Mockito.verify(jdbcTemplate).execute("alter table tb_transaction reorganize partition pmax into ("
+                + "partition p202612 values less than ('2027-01-01'), partition pmax values less than (maxvalue))");
+        Mockito.verify(jdbcTemplate)
+                .execute("alter table tb_transaction convert partition p202608 to table tb_transaction_p202608");
+        Mockito.verify(jdbcTemplate, Mockito.times(4)).execute(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    void deveriaFalharSemTabelaParticionada() {
+        // ARRANGE
+        configurar(TransactionPartitions.Vendor.POSTGRESQL, 0, "drop", List.of());
+
+        // ACT + ASSERT
+        Assertions.assertThrows(IllegalStateException.class, () -> partitions.maintain(YearMonth.of(2026, 10)));
+    }
+}
@@ -0,0 +1,54 @@
+package br.edu.utfpr.bankapi.replica;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+
+/**
+ * Réplica fora do ar (nenhum servidor na porta): as leituras usam o banco
+ * principal
+ */
+@SpringBootTest(properties = {
+        "bankapi.replica.enabled=true",
+        "bankapi.replica.url=jdbc:h2:tcp://localhost:1/mem:db_replica",
+        "bankapi.replica.connection-timeout-millis=250",
+        "bankapi.replica.heartbeat-millis=3600000" })
+@AutoConfigureMockMvc
+public class ReplicaFallbackTest {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ReplicaRouting routing;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Test
+    void deveriaLerDoPrincipalComReplicaForaDoAr() throws Exception {
+        // ARRANGE
+        var account = accountRepository.save(new Account("John Doe", 93001, 0, 0));
+        long leiturasNoPrincipal = routing.primaryReads();
+
+        try {
+            // ACT + ASSERT
+            mvc.perform(MockMvcRequestBuilders.get("/account/93001"))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.name", Matchers.equalTo("John Doe")));
+
+            Assertions.assertFalse(routing.available());
+            Assertions.assertTrue(routing.primaryReads() > leiturasNoPrincipal);
+        } finally {
+            accountRepository.delete(account);
+        }
+    }
+}
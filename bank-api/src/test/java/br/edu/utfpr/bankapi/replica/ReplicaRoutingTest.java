@@ -0,0 +1,128 @@
+package br.edu.utfpr.bankapi.replica;
+
+import java.nio.file.Path;
+import java.sql.DriverManager;
+
+import javax.sql.DataSource;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+
+/**
+ * Dois bancos H2 em memória: o principal (db_bankapi) e a réplica
+ * (db_replica), copiada do principal em replicar()
+ */
+@SpringBootTest(properties = {
+        "bankapi.replica.enabled=true",
+        "bankapi.replica.url=jdbc:h2:mem:db_replica;DB_CLOSE_DELAY=-1",
+        "bankapi.replica.heartbeat-millis=3600000",
+        "bankapi.replica.max-lag-millis=60000" })
+@AutoConfigureMockMvc
+public class ReplicaRoutingTest {
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ReplicaRouting routing;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    DataSource dataSource;
+
+    @TempDir
+    Path dir;
+
+    private JdbcTemplate principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void limpar() {
+        principal.update("delete from tb_transaction where receiver_account_id in "
+                + "(select id from tb_account where number between 92000 and 92999)");
+        principal.update("delete from tb_account where number between 92000 and 92999");
+    }
+
+    private void replicar() throws Exception {
+        var script = dir.resolve("replica.sql").toString();
+        try (var primary = DriverManager.getConnection("jdbc:h2:mem:db_bankapi", "sa", "");
+                var replica = DriverManager.getConnection("jdbc:h2:mem:db_replica", "sa", "")) {
+            primary.createStatement().execute("script to '" + script + "'");
+            replica.createStatement().execute("drop all objects");
+            replica.createStatement().execute("runscript from '" + script + "'");
+        }
+    }
+
+    @Test
+    void deveriaLerDaReplicaEEscreverNoPrincipal() throws Exception {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 92001, 0, 0));
+        routing.beat();
+        replicar();
+        routing.check();
+        principal.update("update tb_account set name = 'Alterado no Principal' where number = 92001");
+        long leiturasNaReplica = routing.replicaReads();
+
+        // ACT + ASSERT: a leitura vem da réplica, ainda sem a alteração
+        mvc.perform(MockMvcRequestBuilders.get("/account/92001"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name", Matchers.equalTo("John Doe")));
+        Assertions.assertTrue(routing.replicaReads() > leiturasNaReplica);
+
+        // ACT + ASSERT: o depósito é gravado no principal
+        mvc.perform(MockMvcRequestBuilders.post("/transaction/deposit")
+                .content("{ \"receiverAccountNumber\": 92001, \"amount\": 10 }")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        Assertions.assertEquals(1000L, principal.queryForObject(
+                "select balance from tb_account where number = 92001", Long.class));
+        mvc.perform(MockMvcRequestBuilders.get("/account/92001"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.balance", Matchers.equalTo(0.0)));
+    }
+
+    @Test
+    void deveriaLerDoPrincipalComReplicaAtrasada() throws Exception {
+        // ARRANGE: o último batimento da réplica é de uma hora atrás
+        accountRepository.save(new Account("Jane Doe", 92002, 0, 0));
+        routing.beat();
+        replicar();
+        try (var replica = DriverManager.getConnection("jdbc:h2:mem:db_replica", "sa", "")) {
+            replica.createStatement().execute("update tb_replica_heartbeat set beat_millis = beat_millis - 3600000");
+        }
+        routing.check();
+        principal.update("update tb_account set name = 'Alterado no Principal' where number = 92002");
+
+        // ACT + ASSERT
+        mvc.perform(MockMvcRequestBuilders.get("/account/92002"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name", Matchers.equalTo("Alterado no Principal")));
+        Assertions.assertTrue(routing.lagMillis() >= 3600000);
+
+        // ACT + ASSERT: a réplica alcança o principal e volta a ser usada
+        routing.beat();
+        replicar();
+        routing.check();
+        Assertions.assertTrue(routing.available());
+    }
+}
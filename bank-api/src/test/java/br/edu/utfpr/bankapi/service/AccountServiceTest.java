@@ -8,12 +8,16 @@ import org.mockito.BDDMockito;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import br.edu.utfpr.bankapi.cache.AccountCache;
 import br.edu.utfpr.bankapi.dto.AccountDTO;
 import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.metrics.OperationMetrics;
 import br.edu.utfpr.bankapi.model.Account;
 import br.edu.utfpr.bankapi.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +28,12 @@ public class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Spy
+    OperationMetrics metrics = new OperationMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    AccountCache accountCache = new AccountCache(10, 60);
+
     @InjectMocks
     private AccountService accountService;
 
@@ -45,6 +55,25 @@ public class AccountServiceTest {
         Assertions.assertEquals(account, result.get());
     }
 
+    @Test
+    void deveriaRetornarContaPeloIdEmCache() {
+        // ARRANGE
+        Account account = new Account("John Doe", 12345, 1000, 500);
+        account.setId(7);
+        BDDMockito.given(accountRepository.getByNumber(12345)).willReturn(Optional.of(account));
+        accountService.getByNumber(12345);
+
+        BDDMockito.given(accountRepository.findById(7L)).willReturn(Optional.of(account));
+
+        // ACT
+        Optional<Account> result = accountService.getByNumber(12345);
+
+        // ASSERT: a segunda consulta lê a conta pela chave primária
+        Assertions.assertEquals(account, result.get());
+        BDDMockito.then(accountRepository).should().findById(7L);
+        BDDMockito.then(accountRepository).should().getByNumber(12345);
+    }
+
     @Test
     void deveriaRetornarTodasAsContas() {
         // ARRANGE
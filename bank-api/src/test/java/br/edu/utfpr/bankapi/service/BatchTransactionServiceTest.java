@@ -0,0 +1,78 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
+import br.edu.utfpr.bankapi.concurrency.StripedLockStrategy;
+import br.edu.utfpr.bankapi.dto.BatchOperationDTO;
+import br.edu.utfpr.bankapi.dto.BatchResultDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+import br.edu.utfpr.bankapi.validations.AvailableBalanceValidation;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchTransactionServiceTest {
+    @Mock
+    AccountRepository accountRepository;
+
+    @Mock
+    TransactionRepository transactionRepository;
+
+    @Mock
+    AvailableBalanceValidation availableBalanceValidation;
+
+    @Spy
+    AccountLockStrategy accountLockStrategy = new StripedLockStrategy(16);
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    BatchTransactionService service;
+
+    private static BatchOperationDTO deposito(long number) {
+        return new BatchOperationDTO(TransactionType.DEPOSIT, null, number, 100);
+    }
+
+    @Test
+    void deveriaRejeitarSoAsOperacoesDoBlocoNaoGravado() {
+        // ARRANGE: blocos de 2 operações; a gravação do segundo bloco falha
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        BDDMockito.given(transactionTemplate.execute(ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BDDMockito.given(accountRepository.findByNumberIn(ArgumentMatchers.any()))
+                .willReturn(List.of(new Account("John Doe", 12345, 0, 0)));
+        BDDMockito.given(transactionRepository.saveAll(ArgumentMatchers.any()))
+                .willReturn(List.of())
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(List.of());
+
+        // ACT
+        var results = service.process(List.of(deposito(12345), deposito(12345), deposito(12345),
+                deposito(12345), deposito(12345)));
+
+        // ASSERT: um resultado por operação, na ordem do lote
+        Assertions.assertEquals(List.of(0L, 1L, 2L, 3L, 4L),
+                results.stream().map(BatchResultDTO::index).toList());
+        Assertions.assertEquals(List.of(true, true, false, false, true),
+                results.stream().map(BatchResultDTO::success).collect(Collectors.toList()));
+        Assertions.assertEquals("Bloco não gravado: timeout", results.get(2).error());
+    }
+}
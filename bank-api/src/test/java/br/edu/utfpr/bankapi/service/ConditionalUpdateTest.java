@@ -0,0 +1,110 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.edu.utfpr.bankapi.dto.TransferDTO;
+import br.edu.utfpr.bankapi.dto.WithdrawDTO;
+import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.exception.WithoutBalanceException;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.repository.AccountRepository;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+
+// No modo optimistic não há bloqueio em Java: só o UPDATE condicional protege o saldo
+@SpringBootTest(properties = {
+        "bankapi.transaction.conditional-update=true",
+        "bankapi.concurrency.mode=optimistic" })
+public class ConditionalUpdateTest {
+
+    @Autowired
+    TransactionService transactionService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    @AfterEach
+    void limpar() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    private long saldo(long number) {
+        return accountRepository.getByNumber(number).get().getBalance();
+    }
+
+    @Test
+    void deveriaTransferirComUpdateCondicional() throws NotFoundException {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 12345, 100000, 0));
+        accountRepository.save(new Account("Jane Doe", 67890, 50000, 0));
+
+        // ACT
+        var transaction = transactionService.transfer(new TransferDTO(67890, 12345, 20000));
+
+        // ASSERT: a resposta traz os saldos já atualizados
+        Assertions.assertEquals(30000, transaction.getSourceAccount().getBalance());
+        Assertions.assertEquals(120000, transaction.getReceiverAccount().getBalance());
+        Assertions.assertEquals(30000, saldo(67890));
+        Assertions.assertEquals(120000, saldo(12345));
+    }
+
+    @Test
+    void deveriaRejeitarSaqueAlemDoLimite() {
+        // ARRANGE
+        accountRepository.save(new Account("John Doe", 12345, 10000, 5000));
+
+        // ACT + ASSERT: o limite cobre até 15000
+        Assertions.assertThrows(WithoutBalanceException.class,
+                () -> transactionService.withdraw(new WithdrawDTO(12345, 15001)));
+        Assertions.assertEquals(10000, saldo(12345));
+        Assertions.assertEquals(0, transactionRepository.count());
+    }
+
+    @Test
+    void deveriaDesfazerDebitoQuandoDestinoNaoExiste() {
+        // ARRANGE: a origem (número menor) é debitada antes do crédito
+        accountRepository.save(new Account("John Doe", 12345, 100000, 0));
+
+        // ACT + ASSERT
+        Assertions.assertThrows(NotFoundException.class,
+                () -> transactionService.transfer(new TransferDTO(12345, 99999, 20000)));
+        Assertions.assertEquals(100000, saldo(12345));
+    }
+
+    @Test
+    void naoDeveriaSacarAlemDoSaldoComSaquesConcorrentes() throws InterruptedException {
+        // ARRANGE: sem bloqueio em Java, apenas o UPDATE condicional
+        accountRepository.save(new Account("John Doe", 12345, 10000, 0));
+        var aceitos = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // ACT
+        for (int i = 0; i < 20; i++)
+            executor.submit(() -> {
+                try {
+                    transactionService.withdraw(new WithdrawDTO(12345, 1000));
+                    aceitos.incrementAndGet();
+                } catch (WithoutBalanceException | NotFoundException ex) {
+                    // rejeitado
+                }
+            });
+        executor.shutdown();
+
+        // ASSERT
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        Assertions.assertEquals(10, aceitos.get());
+        Assertions.assertEquals(0, saldo(12345));
+    }
+}
@@ -1,6 +1,7 @@
 package br.edu.utfpr.bankapi.service;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -8,16 +9,23 @@ import org.mockito.BDDMockito;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
+import br.edu.utfpr.bankapi.concurrency.StripedLockStrategy;
 import br.edu.utfpr.bankapi.dto.DepositDTO;
 import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.metrics.OperationMetrics;
 import br.edu.utfpr.bankapi.model.Account;
 import br.edu.utfpr.bankapi.model.Transaction;
 import br.edu.utfpr.bankapi.model.TransactionType;
 import br.edu.utfpr.bankapi.repository.AccountRepository;
 import br.edu.utfpr.bankapi.repository.TransactionRepository;
 import br.edu.utfpr.bankapi.validations.AvailableAccountValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 public class DepositServiceTest {
@@ -30,17 +38,33 @@ public class DepositServiceTest {
     @Mock
     AvailableAccountValidation accountValidation;
 
+    @Spy
+    OperationMetrics metrics = new OperationMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    AccountLockStrategy accountLockStrategy = new StripedLockStrategy(16);
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
     @InjectMocks
     TransactionService transactionService; // Objeto a ser testado
 
     @Captor
     ArgumentCaptor<Transaction> transactionCaptor;
 
+    @BeforeEach
+    void setUp() {
+        // Executa a operação sem transação
+        BDDMockito.given(transactionTemplate.execute(BDDMockito.any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     void deveriaDepositar() throws NotFoundException {
         // ARRANGE
-        double saldoInicial = 145.34;
-        var depositDTO = new DepositDTO(12345, 1000);
+        long saldoInicial = 14534;
+        var depositDTO = new DepositDTO(12345, 100000);
         var receiverAccount = new Account("John Smith",
                 12345, saldoInicial, 0);
 
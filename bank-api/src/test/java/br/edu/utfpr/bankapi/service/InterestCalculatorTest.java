@@ -1,5 +1,7 @@
 package br.edu.utfpr.bankapi.service;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +35,53 @@ public class InterestCalculatorTest {
         Assertions.assertEquals(15.11, res);
     }
 
+    @Test
+    void deveriaCalcularJurosEmCentavos() {
+        // ARRANGE
+        long valor = 100000; // R$ 1000,00
+        float taxa = 1.5f;
+        int prazo = 6; // meses
 
+        // ACT
+        var res = InterestCalculator.calcularJurosCentavos(valor, taxa, prazo);
 
+        // ASSERT
+        Assertions.assertEquals(9344, res);
+    }
+
+    @Test
+    void deveriaCalcularEmLoteOMesmoResultadoDoCalculoIndividual() {
+        // ARRANGE: vários blocos, com taxas e prazos repetidos
+        var random = new Random(7);
+        int n = InterestCalculator.CHUNK_SIZE * 5 + 123;
+        double[] valores = new double[n];
+        long[] centavos = new long[n];
+        float[] taxas = new float[n];
+        int[] prazos = new int[n];
+        for (int i = 0; i < n; i++) {
+            valores[i] = random.nextInt(10_000_000) / 100.0;
+            centavos[i] = random.nextInt(10_000_000);
+            taxas[i] = random.nextInt(300) / 100f;
+            prazos[i] = 1 + random.nextInt(36);
+        }
+        double[] juros = new double[n];
+        long[] jurosCentavos = new long[n];
+
+        // ACT
+        InterestCalculator.calcularJuros(valores, taxas, prazos, juros);
+        InterestCalculator.calcularJurosCentavos(centavos, taxas, prazos, jurosCentavos);
+
+        // ASSERT
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(InterestCalculator.calcularJuros(valores[i], taxas[i], prazos[i]), juros[i]);
+            Assertions.assertEquals(InterestCalculator.calcularJurosCentavos(centavos[i], taxas[i], prazos[i]),
+                    jurosCentavos[i]);
+        }
+    }
+
+    @Test
+    void deveriaLancarExcecaoQuandoVetoresTemTamanhosDiferentes() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> InterestCalculator.calcularJuros(
+                new double[2], new float[2], new int[1], new double[2]));
+    }
 }
@@ -0,0 +1,76 @@
+package br.edu.utfpr.bankapi.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.edu.utfpr.bankapi.dto.TransactionHistoryDTO;
+import br.edu.utfpr.bankapi.model.Account;
+import br.edu.utfpr.bankapi.model.TransactionType;
+import br.edu.utfpr.bankapi.partitioning.TransactionPartitions;
+import br.edu.utfpr.bankapi.repository.TransactionRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionHistoryServiceTest {
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private TransactionPartitions partitions;
+
+    @InjectMocks
+    private TransactionHistoryService service;
+
+    private static TransactionHistoryDTO deposito(long id, LocalDateTime dateTime) {
+        return new TransactionHistoryDTO(id, TransactionType.DEPOSIT, 1000, dateTime, null, 12345L);
+    }
+
+    @Test
+    void deveriaLerOMesAtualAntesDoRestanteDaRetencao() throws Exception {
+        // ARRANGE
+        ReflectionTestUtils.setField(service, "maxPageSize", 1000);
+        var account = new Account("John Doe", 12345, 0, 0);
+        account.setId(7);
+        BDDMockito.given(accountService.getByNumber(12345)).willReturn(Optional.of(account));
+
+        var retencao = LocalDateTime.of(2020, 1, 1, 0, 0);
+        var mesAtual = YearMonth.now().atDay(1).atStartOfDay();
+        BDDMockito.given(partitions.retainedSince()).willReturn(retencao);
+
+        var recente = deposito(3, mesAtual.plusHours(1));
+        var antigas = List.of(deposito(2, mesAtual.minusDays(1)), deposito(1, mesAtual.minusDays(40)));
+
+        // Mês atual: uma transação; o restante da retenção completa a página
+        BDDMockito.given(transactionRepository.findHistoryAsReceiver(ArgumentMatchers.eq(7L),
+                ArgumentMatchers.eq(mesAtual), ArgumentMatchers.any(), ArgumentMatchers.anyLong(),
+                ArgumentMatchers.isNull(), ArgumentMatchers.any(Limit.class))).willReturn(List.of(recente));
+        BDDMockito.given(transactionRepository.findHistoryAsReceiver(ArgumentMatchers.eq(7L),
+                ArgumentMatchers.eq(retencao), ArgumentMatchers.eq(mesAtual), ArgumentMatchers.eq(Long.MIN_VALUE),
+                ArgumentMatchers.isNull(), ArgumentMatchers.eq(Limit.of(2)))).willReturn(antigas);
+
+        // ACT
+        var page = service.getHistory(12345, null, null, null, null, 3);
+
+        // ASSERT
+        Assertions.assertEquals(List.of(3L, 2L, 1L), page.items().stream().map(TransactionHistoryDTO::id).toList());
+        Assertions.assertNotNull(page.nextCursor());
+        BDDMockito.then(transactionRepository).should().findHistoryAsSource(ArgumentMatchers.eq(7L),
+                ArgumentMatchers.eq(retencao), ArgumentMatchers.eq(mesAtual), ArgumentMatchers.eq(Long.MIN_VALUE),
+                ArgumentMatchers.isNull(), ArgumentMatchers.eq(Limit.of(2)));
+    }
+}
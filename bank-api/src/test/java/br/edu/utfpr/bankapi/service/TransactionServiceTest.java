@@ -1,6 +1,9 @@
 package br.edu.utfpr.bankapi.service;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -8,17 +11,24 @@ import org.mockito.BDDMockito;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import br.edu.utfpr.bankapi.concurrency.AccountLockStrategy;
+import br.edu.utfpr.bankapi.concurrency.StripedLockStrategy;
 import br.edu.utfpr.bankapi.dto.TransferDTO;
 import br.edu.utfpr.bankapi.dto.WithdrawDTO;
 import br.edu.utfpr.bankapi.exception.NotFoundException;
+import br.edu.utfpr.bankapi.metrics.OperationMetrics;
 import br.edu.utfpr.bankapi.model.Account;
 import br.edu.utfpr.bankapi.model.Transaction;
 import br.edu.utfpr.bankapi.model.TransactionType;
 import br.edu.utfpr.bankapi.repository.TransactionRepository;
 import br.edu.utfpr.bankapi.validations.AvailableAccountValidation;
 import br.edu.utfpr.bankapi.validations.AvailableBalanceValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 public class TransactionServiceTest {
@@ -31,17 +41,33 @@ public class TransactionServiceTest {
     @Mock
     private AvailableBalanceValidation balanceValidation;
 
+    @Spy
+    OperationMetrics metrics = new OperationMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    AccountLockStrategy accountLockStrategy = new StripedLockStrategy(16);
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private TransactionService transactionService;
 
     @Captor
     private ArgumentCaptor<Transaction> transactionCaptor;
 
+    @BeforeEach
+    void setUp() {
+        // Executa a operação sem transação
+        BDDMockito.given(transactionTemplate.execute(BDDMockito.any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     void deveriaSacar() throws NotFoundException {
         // ARRANGE
-        double saldoInicial = 1000.0;
-        var withdrawDTO = new WithdrawDTO(12345, 200);
+        long saldoInicial = 100000;
+        var withdrawDTO = new WithdrawDTO(12345, 20000);
         var sourceAccount = new Account("John Doe", 12345, saldoInicial, 0);
 
         BDDMockito.given(accountValidation.validate(sourceAccount.getNumber()))
@@ -65,16 +91,14 @@ public class TransactionServiceTest {
     @Test
     void deveriaTransferir() throws NotFoundException {
         // ARRANGE
-        double saldoOrigem = 1000.0;
-        double saldoDestino = 500.0;
-        var transferDTO = new TransferDTO(12345, 67890, 200);
+        long saldoOrigem = 100000;
+        long saldoDestino = 50000;
+        var transferDTO = new TransferDTO(12345, 67890, 20000);
         var sourceAccount = new Account("John Doe", 12345, saldoOrigem, 0);
         var receiverAccount = new Account("Jane Doe", 67890, saldoDestino, 0);
 
-        BDDMockito.given(accountValidation.validate(sourceAccount.getNumber()))
-                .willReturn(sourceAccount);
-        BDDMockito.given(accountValidation.validate(receiverAccount.getNumber()))
-                .willReturn(receiverAccount);
+        BDDMockito.given(accountValidation.validate(sourceAccount.getNumber(), receiverAccount.getNumber()))
+                .willReturn(List.of(sourceAccount, receiverAccount));
 
         // ACT
         transactionService.transfer(transferDTO);
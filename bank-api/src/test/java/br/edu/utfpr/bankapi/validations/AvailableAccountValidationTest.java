@@ -1,5 +1,6 @@
 package br.edu.utfpr.bankapi.validations;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -8,8 +9,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import br.edu.utfpr.bankapi.cache.AccountCache;
 import br.edu.utfpr.bankapi.exception.NotFoundException;
 import br.edu.utfpr.bankapi.model.Account;
 import br.edu.utfpr.bankapi.repository.AccountRepository;
@@ -22,9 +25,18 @@ public class AvailableAccountValidationTest {
     @InjectMocks
     AvailableAccountValidation validation;
 
+    @Spy
+    AccountCache accountCache = new AccountCache(10, 60);
+
     @Mock
     Account account;
 
+    private Account account(long id, long number) {
+        var account = new Account("John Doe", number, 1000, 0);
+        account.setId(id);
+        return account;
+    }
+
     @Test
     void deveriaEncontrarUmaConta() throws NotFoundException {
         // ARRANGE
@@ -52,4 +64,71 @@ public class AvailableAccountValidationTest {
         // ACT + ASSERT
         Assertions.assertThrows(NotFoundException.class, () -> validation.validate(number));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void deveriaBuscarUmaContaPeloIdEmCache() throws NotFoundException {
+        // ARRANGE
+        var conta = account(1, 12345);
+        BDDMockito.given(accountRepository.getByNumber(12345)).willReturn(Optional.of(conta));
+        validation.validate(12345);
+
+        BDDMockito.given(accountRepository.findById(1L)).willReturn(Optional.of(conta));
+
+        // ACT
+        var result = validation.validate(12345);
+
+        // ASSERT: a segunda validação lê a conta pela chave primária
+        Assertions.assertEquals(conta, result);
+        BDDMockito.then(accountRepository).should().findById(1L);
+        BDDMockito.then(accountRepository).should().getByNumber(12345);
+    }
+
+    @Test
+    void deveriaBuscarUmaContaPeloNumeroQuandoMudouDeNumero() throws NotFoundException {
+        // ARRANGE: a conta 1 agora tem outro número
+        accountCache.put(12345, 1);
+        BDDMockito.given(accountRepository.findById(1L)).willReturn(Optional.of(account(1, 99999)));
+        BDDMockito.given(accountRepository.getByNumber(12345)).willReturn(Optional.empty());
+
+        // ACT + ASSERT
+        Assertions.assertThrows(NotFoundException.class, () -> validation.validate(12345));
+        Assertions.assertNull(accountCache.getId(12345));
+    }
+
+    @Test
+    void deveriaBuscarAsContasDaTransferenciaPeloIdEmCache() throws NotFoundException {
+        // ARRANGE
+        var origem = account(1, 12345);
+        var destino = account(2, 67890);
+        BDDMockito.given(accountRepository.getByNumber(12345)).willReturn(Optional.of(origem));
+        BDDMockito.given(accountRepository.getByNumber(67890)).willReturn(Optional.of(destino));
+        validation.validate(67890, 12345);
+
+        BDDMockito.given(accountRepository.findAllById(List.of(2L, 1L))).willReturn(List.of(origem, destino));
+
+        // ACT
+        var contas = validation.validate(67890, 12345);
+
+        // ASSERT: as duas contas em um único SELECT
+        Assertions.assertEquals(List.of(destino, origem), contas);
+        BDDMockito.then(accountRepository).should().findAllById(List.of(2L, 1L));
+        BDDMockito.then(accountRepository).should().getByNumber(12345);
+        BDDMockito.then(accountRepository).should().getByNumber(67890);
+    }
+
+    @Test
+    void deveriaBuscarPeloNumeroQuandoContaMudouDeNumero() throws NotFoundException {
+        // ARRANGE: a conta 2 agora tem outro número
+        accountCache.put(12345, 1);
+        accountCache.put(67890, 2);
+        var origem = account(1, 12345);
+        BDDMockito.given(accountRepository.findAllById(List.of(1L, 2L)))
+                .willReturn(List.of(origem, account(2, 99999)));
+        BDDMockito.given(accountRepository.getByNumber(12345)).willReturn(Optional.of(origem));
+        BDDMockito.given(accountRepository.getByNumber(67890)).willReturn(Optional.empty());
+
+        // ACT + ASSERT
+        Assertions.assertThrows(NotFoundException.class, () -> validation.validate(12345, 67890));
+        Assertions.assertNull(accountCache.getId(67890));
+    }
+}
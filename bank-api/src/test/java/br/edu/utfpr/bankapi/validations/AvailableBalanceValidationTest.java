@@ -26,9 +26,9 @@ public class AvailableBalanceValidationTest {
     @Test
     void deveriaValidarSaldoSuficiente() {
         // ARRANGE
-        double saldo = 1000.0;
-        double limiteEspecial = 500.0;
-        double valorTransacao = 800.0;
+        long saldo = 100000;
+        long limiteEspecial = 50000;
+        long valorTransacao = 80000;
 
         // Configurando a conta mockada
         BDDMockito.given(sourceAccount.getBalanceWithLimit()).willReturn(saldo + limiteEspecial);
@@ -42,9 +42,9 @@ public class AvailableBalanceValidationTest {
     @Test
     void deveriaLancarWithoutBalanceExceptionQuandoSaldoInsuficiente() {
         // ARRANGE
-        double saldo = 1000.0;
-        double limiteEspecial = 500.0;
-        double valorTransacao = 1600.0; // Valor maior que saldo + limite
+        long saldo = 100000;
+        long limiteEspecial = 50000;
+        long valorTransacao = 160000; // Valor maior que saldo + limite
 
         // Configurando a conta mockada
         BDDMockito.given(sourceAccount.getBalanceWithLimit()).willReturn(saldo + limiteEspecial);